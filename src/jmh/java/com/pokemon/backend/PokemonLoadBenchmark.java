@@ -0,0 +1,148 @@
+package com.pokemon.backend;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PokemonLoadBenchmark {
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  @Param({"1000"})
+  public int concurrency;
+
+  @Param({"100"})
+  public int upstreamDelay;
+
+  private final AtomicLong requestCount = new AtomicLong();
+  private WireMockServer wireMockServer;
+  private ConfigurableApplicationContext applicationContext;
+  private ExecutorService loadExecutorService;
+  private HttpClient loadHttpClient;
+  private String pokemonBaseUrl;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    wireMockServer =
+        new WireMockServer(
+            options()
+                .dynamicPort()
+                .jettyAcceptQueueSize(2 * concurrency)
+                .containerThreads(200)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(32));
+    wireMockServer.start();
+    wireMockServer.stubFor(
+        get(urlPathMatching("/api/v2/pokemon-species/.*"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(upstreamDelay)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/pikachu.json")))));
+    wireMockServer.stubFor(
+        post(urlPathMatching("/translate/.*"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(upstreamDelay)
+                    .withBody(
+                        Files.readString(
+                            Path.of(
+                                "src/test/resources/data/pikachu_shakespeare_translated_description.json")))));
+    String upstreamBaseUrl = "http://127.0.0.1:" + wireMockServer.port();
+    applicationContext =
+        new SpringApplicationBuilder(Application.class)
+            .run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--app.base.url.pokemon=" + upstreamBaseUrl,
+                "--app.base.url.translation=" + upstreamBaseUrl,
+                "--app.caches.pokemon.duration=0",
+                "--app.caches.translation.duration=0",
+                "--app.http.pokemon.version=HTTP_1_1",
+                "--app.http.pokemon.connect-timeout=10000",
+                "--app.http.pokemon.request-timeout=30000",
+                "--app.http.translation.version=HTTP_1_1",
+                "--app.http.translation.connect-timeout=10000",
+                "--app.http.translation.request-timeout=30000",
+                "--app.threads.virtual=" + virtualThreads);
+    int port = ((WebServerApplicationContext) applicationContext).getWebServer().getPort();
+    pokemonBaseUrl = "http://127.0.0.1:" + port + "/pokemon/translated/";
+    loadExecutorService = Executors.newFixedThreadPool(16);
+    loadHttpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(loadExecutorService)
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+    loadExecutorService.shutdown();
+    wireMockServer.stop();
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Requests {
+    public long succeeded;
+    public long failed;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      succeeded = 0;
+      failed = 0;
+    }
+  }
+
+  @Benchmark
+  public void getPokemonWithTranslatedDescription(Requests requests) {
+    AtomicLong succeeded = new AtomicLong();
+    AtomicLong failed = new AtomicLong();
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+    for (int i = 0; i < concurrency; i++) {
+      HttpRequest request =
+          HttpRequest.newBuilder(
+                  URI.create(pokemonBaseUrl + "pikachu-" + requestCount.incrementAndGet()))
+              .timeout(Duration.ofSeconds(60))
+              .GET()
+              .build();
+      responses[i] =
+          loadHttpClient
+              .sendAsync(request, HttpResponse.BodyHandlers.discarding())
+              .handle(
+                  (response, exception) ->
+                      exception == null && response.statusCode() == 200
+                          ? succeeded.incrementAndGet()
+                          : failed.incrementAndGet());
+    }
+    CompletableFuture.allOf(responses).join();
+    requests.succeeded += succeeded.get();
+    requests.failed += failed.get();
+  }
+}
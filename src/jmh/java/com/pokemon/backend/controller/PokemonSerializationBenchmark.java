@@ -0,0 +1,70 @@
+package com.pokemon.backend.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesParser;
+import com.pokemon.backend.model.language.Language;
+import com.pokemon.backend.model.pokemon.Pokemon;
+import com.pokemon.backend.model.pokemon.PokemonResponse;
+import com.pokemon.backend.model.pokemon.PokemonResponseKey;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonSerializationBenchmark {
+  @Param({"pikachu", "diglett", "mewtwo"})
+  public String pokemonName;
+
+  private ObjectMapper objectMapper;
+  private Pokemon pokemon;
+  private Cache<PokemonResponseKey, PokemonResponse> pokemonResponseCache;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    try (AnnotationConfigApplicationContext applicationContext =
+        new AnnotationConfigApplicationContext(JsonPathConfig.class, PokemonSpeciesParser.class)) {
+      PokemonSpecies pokemonSpecies =
+          applicationContext
+              .getBean(PokemonSpeciesParser.class)
+              .parse(Files.readString(Path.of("src/test/resources/data/" + pokemonName + ".json")));
+      pokemon =
+          Pokemon.builder()
+              .name(pokemonSpecies.getName())
+              .description(pokemonSpecies.getDescription())
+              .habitat(pokemonSpecies.getHabitat())
+              .isLegendary(pokemonSpecies.getIsLegendary())
+              .build();
+      byte[] body = objectMapper.writeValueAsBytes(pokemon);
+      pokemonResponseCache = Caffeine.newBuilder().maximumSize(1000).build();
+      pokemonResponseCache.put(
+          new PokemonResponseKey(pokemonName, false, Language.EN),
+          new PokemonResponse(pokemonSpecies, pokemon.getDescription(), body, body, "", ""));
+    }
+  }
+
+  @Benchmark
+  public byte[] serialize() throws Exception {
+    return objectMapper.writeValueAsBytes(pokemon);
+  }
+
+  @Benchmark
+  public byte[] cachedResponse() {
+    return pokemonResponseCache
+        .getIfPresent(new PokemonResponseKey(pokemonName, false, Language.EN))
+        .getBody();
+  }
+}
@@ -0,0 +1,111 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
+import com.pokemon.backend.config.HttpClientConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UpstreamHttpClientBenchmark {
+  private static final String PER_REQUEST_CLIENT_MODE = "PER_REQUEST";
+
+  @Param({"PER_REQUEST", "SHARED"})
+  public String clientMode;
+
+  private final AtomicLong openedConnections = new AtomicLong();
+  private final AtomicLong sentRequests = new AtomicLong();
+  private final AbstractHttpClient abstractHttpClient =
+      new AbstractHttpClient(new SimpleMeterRegistry());
+  private WireMockServer wireMockServer;
+  private ExecutorService perRequestExecutorService;
+  private UpstreamHttpClient upstreamHttpClient;
+  private URI pokemonUri;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    wireMockServer =
+        new WireMockServer(
+            options().dynamicPort().networkTrafficListener(new ConnectionCountingListener()));
+    wireMockServer.start();
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/pikachu.json")))));
+    pokemonUri = URI.create(wireMockServer.baseUrl() + "/api/v2/pokemon-species/pikachu");
+    perRequestExecutorService =
+        Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    upstreamHttpClient =
+        HttpClientConfig.buildUpstreamHttpClient(
+            Upstream.POKEMON,
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(5),
+            HttpClient.Version.HTTP_2,
+            4);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    System.out.printf(
+        "%n%s client mode opened %d connections for %d requests%n",
+        clientMode, openedConnections.get(), sentRequests.get());
+    upstreamHttpClient.close();
+    perRequestExecutorService.shutdown();
+    wireMockServer.stop();
+  }
+
+  @Benchmark
+  public HttpResponse<String> getPokemon() throws Exception {
+    sentRequests.incrementAndGet();
+    HttpRequest request = upstreamHttpClient.newRequestBuilder(pokemonUri).GET().build();
+    if (PER_REQUEST_CLIENT_MODE.equals(clientMode)) {
+      return HttpClient.newBuilder()
+          .executor(perRequestExecutorService)
+          .build()
+          .sendAsync(request, HttpResponse.BodyHandlers.ofString())
+          .get();
+    }
+    return abstractHttpClient.getResponse(upstreamHttpClient, request).get();
+  }
+
+  private class ConnectionCountingListener implements WiremockNetworkTrafficListener {
+    @Override
+    public void opened(Socket socket) {
+      openedConnections.incrementAndGet();
+    }
+
+    @Override
+    public void incoming(Socket socket, ByteBuffer bytes) {}
+
+    @Override
+    public void outgoing(Socket socket, ByteBuffer bytes) {}
+
+    @Override
+    public void closed(Socket socket) {}
+  }
+}
@@ -0,0 +1,114 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.config.HttpClientConfig;
+import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.http.Upstream;
+import com.pokemon.backend.http.UpstreamHttpClient;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djol.magicFieldOffset=true")
+public class PokemonCacheFootprintBenchmark {
+  private static final String HTTP_RESPONSE_CACHED_VALUE = "HTTP_RESPONSE";
+  private static final int MEASURED_ENTRY_COUNT = 100;
+
+  @Param({"pikachu", "diglett", "mewtwo"})
+  public String pokemonName;
+
+  @Param({"HTTP_RESPONSE", "POKEMON_SPECIES"})
+  public String cachedValue;
+
+  private WireMockServer wireMockServer;
+  private AnnotationConfigApplicationContext applicationContext;
+  private PokemonSpeciesParser pokemonSpeciesParser;
+  private UpstreamHttpClient upstreamHttpClient;
+  private HttpResponse<String> pokemonResponse;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    wireMockServer = new WireMockServer(options().dynamicPort());
+    wireMockServer.start();
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/" + pokemonName))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of("src/test/resources/data/" + pokemonName + ".json")))));
+    applicationContext =
+        new AnnotationConfigApplicationContext(JsonPathConfig.class, PokemonSpeciesParser.class);
+    pokemonSpeciesParser = applicationContext.getBean(PokemonSpeciesParser.class);
+    upstreamHttpClient =
+        HttpClientConfig.buildUpstreamHttpClient(
+            Upstream.POKEMON,
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(5),
+            HttpClient.Version.HTTP_1_1,
+            1);
+    pokemonResponse = fetchPokemonResponse();
+    reportRetainedBytesPerEntry();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    upstreamHttpClient.close();
+    applicationContext.close();
+    wireMockServer.stop();
+  }
+
+  @Benchmark
+  public Object buildCachedValue() {
+    return HTTP_RESPONSE_CACHED_VALUE.equals(cachedValue)
+        ? pokemonResponse
+        : pokemonSpeciesParser.parse(pokemonResponse.body());
+  }
+
+  private void reportRetainedBytesPerEntry() throws Exception {
+    List<Object> cachedValues = new ArrayList<>();
+    for (int i = 0; i < MEASURED_ENTRY_COUNT; i++) {
+      HttpResponse<String> response = fetchPokemonResponse();
+      cachedValues.add(
+          HTTP_RESPONSE_CACHED_VALUE.equals(cachedValue)
+              ? response
+              : pokemonSpeciesParser.parse(response.body()));
+    }
+    long retainedBytes =
+        GraphLayout.parseInstance(cachedValues.toArray())
+            .subtract(GraphLayout.parseInstance(upstreamHttpClient.getHttpClient()))
+            .totalSize();
+    System.out.printf(
+        "%n%s cached as %s retains %d bytes per entry%n",
+        pokemonName, cachedValue, retainedBytes / MEASURED_ENTRY_COUNT);
+  }
+
+  private HttpResponse<String> fetchPokemonResponse() throws Exception {
+    URI pokemonUri =
+        URI.create(wireMockServer.baseUrl() + "/api/v2/pokemon-species/" + pokemonName);
+    return upstreamHttpClient
+        .getHttpClient()
+        .send(
+            upstreamHttpClient.newRequestBuilder(pokemonUri).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+  }
+}
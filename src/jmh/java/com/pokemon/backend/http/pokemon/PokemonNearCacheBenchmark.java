@@ -0,0 +1,119 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.pokemon.backend.Application;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonNearCacheBenchmark {
+  private static final int REQUESTED_NAME_COUNT = 1 << 14;
+
+  @Param({"false", "true"})
+  public boolean nearCache;
+
+  @Param({"1000"})
+  public int speciesCount;
+
+  @Param({"1.0"})
+  public double zipfExponent;
+
+  private ConfigurableApplicationContext applicationContext;
+  private PokemonHttpClient pokemonHttpClient;
+  private double[] cumulativeProbabilities;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    applicationContext =
+        new SpringApplicationBuilder(Application.class)
+            .run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--app.base.url.pokemon=http://127.0.0.1:9",
+                "--app.caches.pokemon.duration=3600",
+                "--app.caches.pokemon.near.size=" + (nearCache ? 64 : 0),
+                "--app.caches.pokemon.near.duration=1000",
+                "--app.caches.pokemon.near.min-frequency=3");
+    pokemonHttpClient = applicationContext.getBean(PokemonHttpClient.class);
+    @SuppressWarnings("unchecked")
+    AsyncLoadingCache<String, PokemonSpecies> pokemonCache =
+        applicationContext.getBean(POKEMON_CACHE_NAME, AsyncLoadingCache.class);
+    for (int i = 0; i < speciesCount; i++) {
+      String name = "species-" + i;
+      pokemonCache.put(
+          name,
+          CompletableFuture.completedFuture(
+              PokemonSpecies.builder()
+                  .name(name)
+                  .habitat("forest")
+                  .isLegendary(false)
+                  .description("Description of " + name + ".")
+                  .build()));
+    }
+    cumulativeProbabilities = new double[speciesCount];
+    double cumulativeWeight = 0;
+    for (int i = 0; i < speciesCount; i++) {
+      cumulativeWeight += 1 / Math.pow(i + 1, zipfExponent);
+      cumulativeProbabilities[i] = cumulativeWeight;
+    }
+    for (int i = 0; i < speciesCount; i++) {
+      cumulativeProbabilities[i] /= cumulativeWeight;
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @State(Scope.Thread)
+  public static class RequestedNames {
+    private final String[] names = new String[REQUESTED_NAME_COUNT];
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp(PokemonNearCacheBenchmark benchmark) {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      for (int i = 0; i < names.length; i++) {
+        int rank = Arrays.binarySearch(benchmark.cumulativeProbabilities, random.nextDouble());
+        names[i] = "species-" + Math.min(rank < 0 ? -rank - 1 : rank, benchmark.speciesCount - 1);
+      }
+    }
+
+    private String next() {
+      return names[index++ & (REQUESTED_NAME_COUNT - 1)];
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Object getCachedPokemonWith8Threads(RequestedNames requestedNames) {
+    return pokemonHttpClient.getCachedPokemon(requestedNames.next());
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Object getCachedPokemonWith16Threads(RequestedNames requestedNames) {
+    return pokemonHttpClient.getCachedPokemon(requestedNames.next());
+  }
+
+  @Benchmark
+  @Threads(32)
+  public Object getCachedPokemonWith32Threads(RequestedNames requestedNames) {
+    return pokemonHttpClient.getCachedPokemon(requestedNames.next());
+  }
+}
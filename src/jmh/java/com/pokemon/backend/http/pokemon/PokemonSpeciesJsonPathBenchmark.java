@@ -0,0 +1,64 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.model.language.Language;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonSpeciesJsonPathBenchmark {
+  @Param({"pikachu", "diglett", "mewtwo"})
+  public String pokemonName;
+
+  private AnnotationConfigApplicationContext applicationContext;
+  private JsonPathConfig jsonPathConfig;
+  private PokemonSpeciesParser pokemonSpeciesParser;
+  private String pokemonResponseBody;
+  private DocumentContext pokemonContext;
+  private String englishDescription;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    applicationContext =
+        new AnnotationConfigApplicationContext(JsonPathConfig.class, PokemonSpeciesParser.class);
+    jsonPathConfig = applicationContext.getBean(JsonPathConfig.class);
+    pokemonSpeciesParser = applicationContext.getBean(PokemonSpeciesParser.class);
+    pokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/" + pokemonName + ".json"));
+    pokemonContext = JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(pokemonResponseBody);
+    englishDescription =
+        pokemonSpeciesParser.getDescriptionsByLanguage(pokemonContext)[Language.EN.ordinal()];
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public DocumentContext parseDocument() {
+    return JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(pokemonResponseBody);
+  }
+
+  @Benchmark
+  public String[] indexFlavorTextEntries() {
+    return pokemonSpeciesParser.getDescriptionsByLanguage(pokemonContext);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String formatDescription() {
+    return pokemonSpeciesParser.formatDescription(englishDescription);
+  }
+}
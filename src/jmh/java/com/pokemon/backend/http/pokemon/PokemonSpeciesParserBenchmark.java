@@ -0,0 +1,51 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonSpeciesParserBenchmark {
+  @Param({"pikachu", "diglett", "mewtwo"})
+  public String pokemonName;
+
+  @Param({"JSON_PATH", "STREAMING"})
+  public PokemonSpeciesParserMode pokemonSpeciesParserMode;
+
+  private AnnotationConfigApplicationContext applicationContext;
+  private PokemonSpeciesParser pokemonSpeciesParser;
+  private byte[] pokemonResponseBody;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    applicationContext =
+        new AnnotationConfigApplicationContext(JsonPathConfig.class, PokemonSpeciesParser.class);
+    pokemonSpeciesParser = applicationContext.getBean(PokemonSpeciesParser.class);
+    pokemonResponseBody =
+        Files.readAllBytes(Path.of("src/test/resources/data/" + pokemonName + ".json"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public PokemonSpecies parse() {
+    return pokemonSpeciesParserMode == PokemonSpeciesParserMode.JSON_PATH
+        ? pokemonSpeciesParser.parse(new String(pokemonResponseBody, StandardCharsets.UTF_8))
+        : pokemonSpeciesParser.parse(new ByteArrayInputStream(pokemonResponseBody));
+  }
+}
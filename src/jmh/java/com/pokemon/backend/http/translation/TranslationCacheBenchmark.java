@@ -0,0 +1,94 @@
+package com.pokemon.backend.http.translation;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.pokemon.backend.config.CacheConfig.TRANSLATION_CACHE_NAME;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationCacheBenchmark {
+  private static final String TRANSLATION_URL_PATH = "/translate/shakespeare";
+  private static final String TEXT =
+      "When several of these POKeMON gather, their electricity could build and cause lightning storms.";
+  private static final String TRANSLATED_TEXT =
+      "At which hour several of these pokemon gather,  their electricity couldst buildeth and cause lightning storms.";
+
+  private AnnotationConfigApplicationContext applicationContext;
+  private CacheableTranslationClient cacheableTranslationClient;
+  private AsyncLoadingCache<TranslationKey, String> translationCache;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    applicationContext = new AnnotationConfigApplicationContext(CacheableConfig.class);
+    cacheableTranslationClient = applicationContext.getBean(CacheableTranslationClient.class);
+    cacheableTranslationClient.getTranslatedText(TRANSLATION_URL_PATH, TEXT);
+    translationCache =
+        Caffeine.newBuilder()
+            .maximumSize(10000)
+            .recordStats()
+            .buildAsync(
+                (translationKey, executor) -> CompletableFuture.completedFuture(TRANSLATED_TEXT));
+    translationCache.get(new TranslationKey(TRANSLATION_URL_PATH, TEXT)).join();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    applicationContext.close();
+  }
+
+  @Benchmark
+  public String typedCache() {
+    return translationCache.get(new TranslationKey(TRANSLATION_URL_PATH, TEXT)).join();
+  }
+
+  @Benchmark
+  public String cacheableProxy() {
+    return cacheableTranslationClient.getTranslatedText(TRANSLATION_URL_PATH, TEXT);
+  }
+
+  @EnableCaching
+  public static class CacheableConfig {
+    @Bean
+    public CacheManager cacheManager() {
+      SimpleCacheManager cacheManager = new SimpleCacheManager();
+      cacheManager.setCaches(
+          List.of(
+              new CaffeineCache(
+                  TRANSLATION_CACHE_NAME,
+                  Caffeine.newBuilder().maximumSize(10000).recordStats().build())));
+      return cacheManager;
+    }
+
+    @Bean
+    public CacheableTranslationClient cacheableTranslationClient() {
+      return new CacheableTranslationClient();
+    }
+  }
+
+  public static class CacheableTranslationClient {
+    @Cacheable(
+        cacheNames = TRANSLATION_CACHE_NAME,
+        key = "#translationUrlPath.concat('-').concat(#text)",
+        unless = "#result == null")
+    public String getTranslatedText(String translationUrlPath, String text) {
+      return TRANSLATED_TEXT;
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.pokemon.backend.http.translation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationStoreBenchmark {
+  private static final String DESCRIPTION =
+      "When several of these POKeMON gather, their electricity could build and cause lightning storms.";
+  private static final String TRANSLATED_DESCRIPTION =
+      "At which hour several of these pokemon gather,  their electricity couldst buildeth and cause lightning storms.";
+
+  @Param({"100000"})
+  public int entryCount;
+
+  private Path translationStorePath;
+  private TranslationStore translationStore;
+  private TranslationKey[] translationKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    translationStorePath = Files.createTempFile("translation-store-benchmark", ".log");
+    Files.delete(translationStorePath);
+    translationKeys = new TranslationKey[entryCount];
+    CompletableFuture<?>[] puts = new CompletableFuture<?>[entryCount];
+    try (TranslationStore populatedTranslationStore = TranslationStore.open(translationStorePath)) {
+      for (int i = 0; i < entryCount; i++) {
+        translationKeys[i] =
+            new TranslationKey(
+                i % 2 == 0 ? "/translate/yoda" : "/translate/shakespeare", i + " " + DESCRIPTION);
+        puts[i] =
+            populatedTranslationStore.put(translationKeys[i], i + " " + TRANSLATED_DESCRIPTION);
+      }
+      CompletableFuture.allOf(puts).get();
+    }
+    System.out.println(
+        "\nTranslation store with "
+            + entryCount
+            + " entries: "
+            + Files.size(translationStorePath)
+            + " bytes");
+    translationStore = TranslationStore.open(translationStorePath);
+    translationStore.loaded().get();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    translationStore.close();
+    Files.deleteIfExists(translationStorePath);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 20)
+  public int startup() throws Exception {
+    try (TranslationStore startedTranslationStore = TranslationStore.open(translationStorePath)) {
+      startedTranslationStore.loaded().get();
+      return startedTranslationStore.size();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String lookup() {
+    return translationStore
+        .get(translationKeys[ThreadLocalRandom.current().nextInt(entryCount)])
+        .join();
+  }
+}
@@ -0,0 +1,31 @@
+package com.pokemon.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslationServiceBenchmark {
+  @Param({"cave", "urban", ""})
+  public String habitat;
+
+  @Param({"true", "false"})
+  public boolean isLegendary;
+
+  private TranslationService translationService;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    translationService = new TranslationService();
+  }
+
+  @Benchmark
+  public String getTranslationUrlPath() {
+    return translationService.getTranslationUrlPath(habitat, isLegendary);
+  }
+}
@@ -2,8 +2,16 @@ package com.pokemon.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 
-@SpringBootApplication
+@SpringBootApplication(
+    exclude = {
+      RedisAutoConfiguration.class,
+      RedisReactiveAutoConfiguration.class,
+      RedisRepositoriesAutoConfiguration.class
+    })
 public class Application {
   public static void main(String[] args) {
     SpringApplication.run(Application.class, args);
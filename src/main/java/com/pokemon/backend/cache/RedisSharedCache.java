@@ -0,0 +1,240 @@
+package com.pokemon.backend.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Commands are sent through a single Lettuce connection opened asynchronously, so callers never
+ * block: commands fail straight away while it is disconnected and when its request queue is full.
+ */
+@Log4j2
+public class RedisSharedCache implements SharedCache {
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(1);
+  private static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+  private static final int MAX_QUEUED_COMMANDS = 10_000;
+  private static final RedisCodec<String, byte[]> CODEC =
+      RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+  private final RedisURI redisUri;
+  private final String keyPrefix;
+  private final String invalidationChannel;
+  private final Duration timeout;
+  private final LettuceConnectionFactory connectionFactory;
+  private final ScheduledExecutorService subscriptionExecutor;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+  private CompletableFuture<StatefulRedisConnection<String, byte[]>> connection;
+  private long connectingSinceNanos;
+  private volatile boolean closed;
+
+  private RedisSharedCache(
+      RedisURI redisUri,
+      String namespace,
+      Duration timeout,
+      LettuceConnectionFactory connectionFactory) {
+    this.redisUri = redisUri;
+    this.keyPrefix = namespace + ":";
+    this.invalidationChannel = namespace + ":invalidations";
+    this.timeout = timeout;
+    this.connectionFactory = connectionFactory;
+    this.subscriptionExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "shared-cache-subscription");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.listenerContainer = new RedisMessageListenerContainer();
+    listenerContainer.setConnectionFactory(connectionFactory);
+    listenerContainer.setSubscriptionExecutor(subscriptionExecutor);
+    listenerContainer.setTaskExecutor(Runnable::run);
+    listenerContainer.setRecoveryInterval(RETRY_DELAY.toMillis());
+    listenerContainer.addMessageListener(
+        (message, pattern) -> {
+          String key = new String(message.getBody(), StandardCharsets.UTF_8);
+          invalidationListeners.forEach(invalidationListener -> invalidationListener.accept(key));
+        },
+        new ChannelTopic(invalidationChannel));
+    listenerContainer.afterPropertiesSet();
+  }
+
+  public static RedisSharedCache connect(URI url, String namespace, Duration timeout) {
+    if (!("redis".equals(url.getScheme()) || "rediss".equals(url.getScheme()))
+        || url.getHost() == null) {
+      throw new IllegalArgumentException("Invalid shared cache url: " + url);
+    }
+    RedisURI redisUri = RedisURI.create(url);
+    redisUri.setTimeout(CONNECT_TIMEOUT);
+    LettuceClientConfiguration.LettuceClientConfigurationBuilder clientConfigurationBuilder =
+        LettuceClientConfiguration.builder()
+            .commandTimeout(CONNECT_TIMEOUT)
+            .clientOptions(
+                ClientOptions.builder()
+                    .requestQueueSize(MAX_QUEUED_COMMANDS)
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .timeoutOptions(TimeoutOptions.enabled(timeout))
+                    .socketOptions(SocketOptions.builder().connectTimeout(CONNECT_TIMEOUT).build())
+                    .build());
+    if (redisUri.isSsl()) {
+      clientConfigurationBuilder.useSsl();
+    }
+    LettuceConnectionFactory connectionFactory =
+        new LettuceConnectionFactory(
+            LettuceConnectionFactory.createRedisConfiguration(redisUri),
+            clientConfigurationBuilder.build());
+    connectionFactory.afterPropertiesSet();
+    RedisSharedCache sharedCache =
+        new RedisSharedCache(redisUri, namespace, timeout, connectionFactory);
+    sharedCache.listenForInvalidations();
+    return sharedCache;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public CompletableFuture<byte[]> get(String key) {
+    return getConnection()
+        .thenCompose(connection -> connection.async().get(keyPrefix + key).toCompletableFuture())
+        .completeOnTimeout(null, timeout.toNanos(), TimeUnit.NANOSECONDS)
+        .exceptionally(
+            exception -> {
+              log.debug(
+                  "Failed to get key: {} from shared cache due to: {}", key, exception.toString());
+              return null;
+            });
+  }
+
+  @Override
+  public void put(String key, byte[] value, Duration timeToLive) {
+    getConnection()
+        .thenCompose(
+            connection ->
+                connection
+                    .async()
+                    .set(
+                        keyPrefix + key,
+                        value,
+                        SetArgs.Builder.px(Math.max(1, timeToLive.toMillis())))
+                    .toCompletableFuture())
+        .exceptionally(
+            exception -> {
+              log.debug(
+                  "Failed to put key: {} to shared cache due to: {}", key, exception.toString());
+              return null;
+            });
+  }
+
+  @Override
+  public void invalidate(String key) {
+    getConnection()
+        .thenCompose(
+            connection -> {
+              connection.async().del(keyPrefix + key);
+              return connection
+                  .async()
+                  .publish(invalidationChannel, key.getBytes(StandardCharsets.UTF_8))
+                  .toCompletableFuture();
+            })
+        .exceptionally(
+            exception -> {
+              log.warn(
+                  "Failed to broadcast invalidation of key: {} from shared cache due to: {}",
+                  key,
+                  exception.toString());
+              return null;
+            });
+  }
+
+  @Override
+  public void addInvalidationListener(Consumer<String> invalidationListener) {
+    invalidationListeners.add(invalidationListener);
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    subscriptionExecutor.shutdownNow();
+    try {
+      listenerContainer.destroy();
+    } catch (Exception exception) {
+      log.debug("Failed to stop shared cache listener due to: {}", exception.toString());
+    }
+    CompletableFuture<StatefulRedisConnection<String, byte[]>> openedConnection;
+    synchronized (this) {
+      openedConnection = connection;
+    }
+    if (openedConnection != null) {
+      openedConnection.thenAccept(StatefulRedisConnection::close);
+    }
+    connectionFactory.destroy();
+  }
+
+  private void listenForInvalidations() {
+    if (closed) {
+      return;
+    }
+    try {
+      listenerContainer.start();
+    } catch (RuntimeException exception) {
+      log.warn(
+          "Failed to listen for invalidations from shared cache: {} due to: {}",
+          redisUri.getHost(),
+          exception.toString());
+      listenerContainer.stop();
+      subscriptionExecutor.schedule(
+          this::listenForInvalidations, RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private synchronized CompletableFuture<StatefulRedisConnection<String, byte[]>> getConnection() {
+    if (closed) {
+      return CompletableFuture.failedFuture(new IllegalStateException("Shared cache closed"));
+    }
+    if (connection == null
+        || (connection.isCompletedExceptionally()
+            && System.nanoTime() - connectingSinceNanos >= RETRY_DELAY.toNanos())) {
+      connectingSinceNanos = System.nanoTime();
+      connection =
+          ((RedisClient) connectionFactory.getNativeClient())
+              .connectAsync(CODEC, redisUri)
+              .toCompletableFuture();
+      connection.whenComplete(
+          (openedConnection, exception) -> {
+            if (exception != null) {
+              log.warn(
+                  "Failed to connect to shared cache: {} due to: {}",
+                  redisUri.getHost(),
+                  exception.toString());
+            }
+          });
+    }
+    return connection;
+  }
+}
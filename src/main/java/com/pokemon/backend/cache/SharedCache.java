@@ -0,0 +1,51 @@
+package com.pokemon.backend.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public interface SharedCache extends AutoCloseable {
+
+  static SharedCache disabled() {
+    return DisabledSharedCache.INSTANCE;
+  }
+
+  boolean isEnabled();
+
+  CompletableFuture<byte[]> get(String key);
+
+  void put(String key, byte[] value, Duration timeToLive);
+
+  void invalidate(String key);
+
+  void addInvalidationListener(Consumer<String> invalidationListener);
+
+  @Override
+  void close();
+
+  enum DisabledSharedCache implements SharedCache {
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(String key) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration timeToLive) {}
+
+    @Override
+    public void invalidate(String key) {}
+
+    @Override
+    public void addInvalidationListener(Consumer<String> invalidationListener) {}
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,23 @@
+package com.pokemon.backend.cache;
+
+import java.nio.charset.StandardCharsets;
+
+public interface SharedCacheCodec<V> {
+
+  SharedCacheCodec<String> UTF_8 =
+      new SharedCacheCodec<>() {
+        @Override
+        public byte[] encode(String value) {
+          return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+          return new String(bytes, StandardCharsets.UTF_8);
+        }
+      };
+
+  byte[] encode(V value);
+
+  V decode(byte[] bytes);
+}
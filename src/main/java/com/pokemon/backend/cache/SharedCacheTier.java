@@ -0,0 +1,91 @@
+package com.pokemon.backend.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Log4j2
+@Builder
+public class SharedCacheTier<K, V> {
+  private static final String SHARED_CACHE_GETS_METRIC_NAME = "cache.shared.gets";
+
+  private final SharedCache sharedCache;
+  private final String name;
+  private final Duration timeToLive;
+  private final Function<K, String> keyEncoder;
+  private final Function<String, K> keyDecoder;
+  private final SharedCacheCodec<V> valueCodec;
+  private final MeterRegistry meterRegistry;
+
+  public boolean isEnabled() {
+    return sharedCache.isEnabled();
+  }
+
+  public CompletableFuture<V> get(K key) {
+    if (!isEnabled()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return sharedCache
+        .get(encodeKey(key))
+        .thenApplyAsync(
+            bytes -> {
+              V value = bytes != null ? decodeValue(key, bytes) : null;
+              countGet(bytes == null ? "miss" : value == null ? "invalid" : "hit");
+              return value;
+            });
+  }
+
+  public void put(K key, V value) {
+    if (isEnabled() && value != null) {
+      sharedCache.put(encodeKey(key), valueCodec.encode(value), timeToLive);
+    }
+  }
+
+  public void invalidate(K key) {
+    if (isEnabled()) {
+      sharedCache.invalidate(encodeKey(key));
+    }
+  }
+
+  public void addInvalidationListener(Consumer<K> invalidationListener) {
+    String keyPrefix = getKeyPrefix();
+    sharedCache.addInvalidationListener(
+        key -> {
+          if (key.startsWith(keyPrefix)) {
+            invalidationListener.accept(keyDecoder.apply(key.substring(keyPrefix.length())));
+          }
+        });
+  }
+
+  private String encodeKey(K key) {
+    return getKeyPrefix() + keyEncoder.apply(key);
+  }
+
+  private String getKeyPrefix() {
+    return name + ":";
+  }
+
+  private V decodeValue(K key, byte[] bytes) {
+    try {
+      return valueCodec.decode(bytes);
+    } catch (RuntimeException exception) {
+      log.warn(
+          "Ignored shared cache entry of {} for key: {} that cannot be decoded due to: {}",
+          name,
+          key,
+          exception.toString());
+      return null;
+    }
+  }
+
+  private void countGet(String result) {
+    meterRegistry
+        .counter(SHARED_CACHE_GETS_METRIC_NAME, "cache", name, "result", result)
+        .increment();
+  }
+}
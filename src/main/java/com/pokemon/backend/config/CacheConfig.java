@@ -1,28 +1,54 @@
 package com.pokemon.backend.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import com.pokemon.backend.cache.RedisSharedCache;
+import com.pokemon.backend.cache.SharedCache;
+import com.pokemon.backend.cache.SharedCacheCodec;
+import com.pokemon.backend.cache.SharedCacheTier;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.http.pokemon.PokemonNearCache;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesCodec;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesSnapshot;
+import com.pokemon.backend.http.translation.TranslationHttpClient;
+import com.pokemon.backend.http.translation.TranslationKey;
+import com.pokemon.backend.http.translation.TranslationStore;
+import com.pokemon.backend.model.pokemon.PokemonResponse;
+import com.pokemon.backend.model.pokemon.PokemonResponseKey;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Configuration
-@EnableCaching
 @RequiredArgsConstructor
 @Log4j2
 public class CacheConfig {
   public static final String POKEMON_CACHE_NAME = "pokemonCache";
   public static final String TRANSLATION_CACHE_NAME = "translationCache";
+  public static final String POKEMON_RESPONSE_CACHE_NAME = "pokemonResponseCache";
+  public static final String POKEMON_NOT_FOUND_CACHE_NAME = "pokemonNotFoundCache";
+  public static final String POKEMON_NEAR_CACHE_NAME = "pokemonNearCache";
+  public static final String POKEMON_SHARED_CACHE_NAME = "pokemonSharedCache";
+  public static final String TRANSLATION_SHARED_CACHE_NAME = "translationSharedCache";
+  private static final String TRANSLATION_KEY_SEPARATOR = "\n";
 
   @Value("${app.caches.pokemon.duration}")
   private Integer pokemonCacheDuration;
@@ -30,49 +56,312 @@ public class CacheConfig {
   @Value("${app.caches.pokemon.size}")
   private Integer pokemonCacheSize;
 
+  @Value("${app.caches.pokemon.refresh}")
+  private Integer pokemonCacheRefresh;
+
+  @Value("${app.caches.pokemon.stale}")
+  private Integer pokemonCacheStale;
+
+  @Value("${app.caches.pokemon.near.size}")
+  private Integer pokemonNearCacheSize;
+
+  @Value("${app.caches.pokemon.near.duration}")
+  private Integer pokemonNearCacheDuration;
+
+  @Value("${app.caches.pokemon.near.min-frequency}")
+  private Integer pokemonNearCacheMinFrequency;
+
+  @Value("${app.caches.pokemon-not-found.duration}")
+  private Integer pokemonNotFoundCacheDuration;
+
+  @Value("${app.caches.pokemon-not-found.size}")
+  private Integer pokemonNotFoundCacheSize;
+
   @Value("${app.caches.translation.duration}")
   private Integer translationCacheDuration;
 
   @Value("${app.caches.translation.size}")
   private Integer translationCacheSize;
 
+  @Value("${app.caches.translation.refresh}")
+  private Integer translationCacheRefresh;
+
+  @Value("${app.caches.translation.stale}")
+  private Integer translationCacheStale;
+
+  @Value("${app.caches.response.size}")
+  private Integer pokemonResponseCacheSize;
+
+  @Value("${app.caches.translation.store-path}")
+  private String translationStorePath;
+
+  @Value("${app.caches.pokemon.snapshot-path}")
+  private String pokemonSnapshotPath;
+
+  @Value("${app.caches.shared.url}")
+  private String sharedCacheUrl;
+
+  @Value("${app.caches.shared.namespace}")
+  private String sharedCacheNamespace;
+
+  @Value("${app.caches.shared.timeout}")
+  private Integer sharedCacheTimeout;
+
   @Bean
   public Ticker ticker() {
     return Ticker.systemTicker();
   }
 
+  @Bean(name = POKEMON_CACHE_NAME)
+  public AsyncLoadingCache<String, PokemonSpecies> pokemonCache(
+      Ticker ticker, ObjectProvider<PokemonHttpClient> pokemonHttpClient) {
+    return buildCacheBuilder(
+            POKEMON_CACHE_NAME,
+            Duration.ofSeconds(pokemonCacheDuration),
+            pokemonCacheSize,
+            Duration.ofSeconds(pokemonCacheRefresh),
+            Duration.ofSeconds(pokemonCacheStale),
+            ticker)
+        .buildAsync((name, executor) -> pokemonHttpClient.getObject().fetchPokemon(name));
+  }
+
+  @Bean(name = POKEMON_NEAR_CACHE_NAME)
+  public PokemonNearCache pokemonNearCache(Ticker ticker) {
+    if (pokemonNearCacheSize > 0) {
+      log.info(
+          "Building {} with size: {}, duration: {} ms and min frequency: {}",
+          POKEMON_NEAR_CACHE_NAME,
+          pokemonNearCacheSize,
+          pokemonNearCacheDuration,
+          pokemonNearCacheMinFrequency);
+    }
+    return PokemonNearCache.of(
+        pokemonNearCacheSize,
+        Duration.ofMillis(pokemonNearCacheDuration),
+        pokemonNearCacheMinFrequency,
+        ticker);
+  }
+
+  @Bean(name = POKEMON_NOT_FOUND_CACHE_NAME)
+  public Cache<String, String> pokemonNotFoundCache(Ticker ticker) {
+    return Caffeine.newBuilder()
+        .ticker(ticker)
+        .maximumSize(pokemonNotFoundCacheSize)
+        .expireAfterWrite(Duration.ofSeconds(pokemonNotFoundCacheDuration))
+        .recordStats()
+        .build();
+  }
+
   @Bean
-  public CacheManager cacheManager(Ticker ticker) {
-    SimpleCacheManager cacheManager = new SimpleCacheManager();
-    Cache pokemonCache = buildPokemonCache(ticker);
-    Cache translationCache = buildTranslationCache(ticker);
-    List<Cache> caches = List.of(pokemonCache, translationCache);
-    cacheManager.setCaches(caches);
-    return cacheManager;
+  public PokemonSpeciesSnapshot pokemonSpeciesSnapshot() {
+    if (pokemonSnapshotPath == null || pokemonSnapshotPath.isBlank()) {
+      return PokemonSpeciesSnapshot.disabled();
+    }
+    log.info("Opening pokemon species snapshot: {}", pokemonSnapshotPath);
+    return PokemonSpeciesSnapshot.open(Path.of(pokemonSnapshotPath));
   }
 
-  private Caffeine<Object, Object> buildCacheBuilder(
-      Duration durationToExpire, Integer size, Ticker ticker) {
+  @Bean(destroyMethod = "close")
+  public TranslationStore translationStore() {
+    if (translationStorePath == null || translationStorePath.isBlank()) {
+      return TranslationStore.disabled();
+    }
+    log.info("Opening translation store: {}", translationStorePath);
+    return TranslationStore.open(Path.of(translationStorePath));
+  }
+
+  @Bean(name = TRANSLATION_CACHE_NAME)
+  public AsyncLoadingCache<TranslationKey, String> translationCache(
+      Ticker ticker, ObjectProvider<TranslationHttpClient> translationHttpClient) {
+    return buildCacheBuilder(
+            TRANSLATION_CACHE_NAME,
+            Duration.ofSeconds(translationCacheDuration),
+            translationCacheSize,
+            Duration.ofSeconds(translationCacheRefresh),
+            Duration.ofSeconds(translationCacheStale),
+            ticker)
+        .buildAsync(
+            (translationKey, executor) ->
+                translationHttpClient.getObject().fetchTranslatedText(translationKey));
+  }
+
+  @Bean(name = POKEMON_RESPONSE_CACHE_NAME)
+  public Cache<PokemonResponseKey, PokemonResponse> pokemonResponseCache(Ticker ticker) {
     return Caffeine.newBuilder()
-        .expireAfterWrite(durationToExpire)
         .ticker(ticker)
-        .maximumSize(size);
+        .maximumSize(pokemonResponseCacheSize)
+        .expireAfterWrite(Duration.ofSeconds(pokemonCacheDuration + pokemonCacheStale))
+        .recordStats()
+        .build();
   }
 
-  private CaffeineCache buildPokemonCache(Ticker ticker) {
-    com.github.benmanes.caffeine.cache.Cache<Object, Object> cacheBuilder =
-        buildCacheBuilder(Duration.ofSeconds(pokemonCacheDuration), pokemonCacheSize, ticker)
-            .build();
+  @Bean(destroyMethod = "close")
+  public SharedCache sharedCache() {
+    if (sharedCacheUrl == null || sharedCacheUrl.isBlank()) {
+      return SharedCache.disabled();
+    }
+    log.info(
+        "Connecting to shared cache: {} with namespace: {} and timeout: {} ms",
+        sharedCacheUrl,
+        sharedCacheNamespace,
+        sharedCacheTimeout);
+    return RedisSharedCache.connect(
+        URI.create(sharedCacheUrl), sharedCacheNamespace, Duration.ofMillis(sharedCacheTimeout));
+  }
 
-    return new CaffeineCache(POKEMON_CACHE_NAME, cacheBuilder);
+  @Bean(name = POKEMON_SHARED_CACHE_NAME)
+  public SharedCacheTier<String, PokemonSpecies> pokemonSharedCache(
+      SharedCache sharedCache,
+      MeterRegistry meterRegistry,
+      @Qualifier(POKEMON_CACHE_NAME) AsyncCache<String, PokemonSpecies> pokemonCache,
+      @Qualifier(POKEMON_NEAR_CACHE_NAME) PokemonNearCache pokemonNearCache) {
+    SharedCacheTier<String, PokemonSpecies> pokemonSharedCache =
+        SharedCacheTier.<String, PokemonSpecies>builder()
+            .sharedCache(sharedCache)
+            .name(POKEMON_CACHE_NAME)
+            .timeToLive(Duration.ofSeconds(pokemonCacheDuration))
+            .keyEncoder(name -> name)
+            .keyDecoder(name -> name)
+            .valueCodec(new PokemonSpeciesCodec())
+            .meterRegistry(meterRegistry)
+            .build();
+    pokemonSharedCache.addInvalidationListener(
+        name -> {
+          pokemonCache.synchronous().invalidate(name);
+          pokemonNearCache.invalidate(name);
+        });
+    return pokemonSharedCache;
   }
 
-  private CaffeineCache buildTranslationCache(Ticker ticker) {
-    com.github.benmanes.caffeine.cache.Cache<Object, Object> cacheBuilder =
-        buildCacheBuilder(
-                Duration.ofSeconds(translationCacheDuration), translationCacheSize, ticker)
+  @Bean(name = TRANSLATION_SHARED_CACHE_NAME)
+  public SharedCacheTier<TranslationKey, String> translationSharedCache(
+      SharedCache sharedCache,
+      MeterRegistry meterRegistry,
+      @Qualifier(TRANSLATION_CACHE_NAME) AsyncCache<TranslationKey, String> translationCache) {
+    SharedCacheTier<TranslationKey, String> translationSharedCache =
+        SharedCacheTier.<TranslationKey, String>builder()
+            .sharedCache(sharedCache)
+            .name(TRANSLATION_CACHE_NAME)
+            .timeToLive(Duration.ofSeconds(translationCacheDuration))
+            .keyEncoder(
+                translationKey ->
+                    translationKey.getTranslationUrlPath()
+                        + TRANSLATION_KEY_SEPARATOR
+                        + translationKey.getText())
+            .keyDecoder(
+                key -> {
+                  int separatorIndex = key.indexOf(TRANSLATION_KEY_SEPARATOR);
+                  return new TranslationKey(
+                      key.substring(0, separatorIndex), key.substring(separatorIndex + 1));
+                })
+            .valueCodec(SharedCacheCodec.UTF_8)
+            .meterRegistry(meterRegistry)
             .build();
+    translationSharedCache.addInvalidationListener(translationCache.synchronous()::invalidate);
+    return translationSharedCache;
+  }
+
+  @Bean
+  public CacheManager cacheManager(
+      @Qualifier(POKEMON_CACHE_NAME) AsyncCache<String, PokemonSpecies> pokemonCache,
+      @Qualifier(TRANSLATION_CACHE_NAME) AsyncCache<TranslationKey, String> translationCache,
+      @Qualifier(POKEMON_RESPONSE_CACHE_NAME)
+          Cache<PokemonResponseKey, PokemonResponse> pokemonResponseCache,
+      @Qualifier(POKEMON_NOT_FOUND_CACHE_NAME) Cache<String, String> pokemonNotFoundCache,
+      @Qualifier(POKEMON_NEAR_CACHE_NAME) PokemonNearCache pokemonNearCache,
+      @Qualifier(POKEMON_SHARED_CACHE_NAME)
+          SharedCacheTier<String, PokemonSpecies> pokemonSharedCache,
+      @Qualifier(TRANSLATION_SHARED_CACHE_NAME)
+          SharedCacheTier<TranslationKey, String> translationSharedCache) {
+    SimpleCacheManager cacheManager = new SimpleCacheManager();
+    List<org.springframework.cache.Cache> caches =
+        List.of(
+            buildCaffeineCache(
+                POKEMON_CACHE_NAME,
+                pokemonCache.synchronous(),
+                name -> {
+                  pokemonNearCache.invalidate((String) name);
+                  pokemonSharedCache.invalidate((String) name);
+                }),
+            buildCaffeineCache(
+                TRANSLATION_CACHE_NAME,
+                translationCache.synchronous(),
+                translationKey ->
+                    translationSharedCache.invalidate((TranslationKey) translationKey)),
+            buildCaffeineCache(POKEMON_RESPONSE_CACHE_NAME, pokemonResponseCache, key -> {}),
+            buildCaffeineCache(POKEMON_NOT_FOUND_CACHE_NAME, pokemonNotFoundCache, key -> {}));
+    cacheManager.setCaches(caches);
+    return cacheManager;
+  }
+
+  private Caffeine<Object, Object> buildCacheBuilder(
+      String name,
+      Duration durationToExpire,
+      Integer size,
+      Duration durationToRefresh,
+      Duration durationToServeStale,
+      Ticker ticker) {
+    if (durationToRefresh.isNegative() || durationToServeStale.isNegative()) {
+      throw new IllegalArgumentException(
+          "Invalid "
+              + name
+              + " refresh: "
+              + durationToRefresh
+              + " or stale: "
+              + durationToServeStale);
+    }
+    Caffeine<Object, Object> cacheBuilder =
+        Caffeine.newBuilder().ticker(ticker).maximumSize(size).recordStats();
+    if (durationToRefresh.isZero()) {
+      if (!durationToServeStale.isZero()) {
+        log.warn(
+            "Ignoring {} stale: {} as stale values are only served in refresh-ahead mode",
+            name,
+            durationToServeStale);
+      }
+      return cacheBuilder.expireAfterWrite(durationToExpire);
+    }
+    if (durationToRefresh.compareTo(durationToExpire) >= 0) {
+      throw new IllegalArgumentException(
+          "Invalid "
+              + name
+              + " refresh: "
+              + durationToRefresh
+              + " which must be shorter than its duration: "
+              + durationToExpire);
+    }
+    Duration durationToExpireStale = durationToExpire.plus(durationToServeStale);
+    log.info(
+        "Building {} in refresh-ahead mode with refresh after: {} and stale values served until: {}",
+        name,
+        durationToRefresh,
+        durationToExpireStale);
+    return cacheBuilder
+        .refreshAfterWrite(durationToRefresh)
+        .expireAfterWrite(durationToExpireStale);
+  }
+
+  @SuppressWarnings("unchecked")
+  private CaffeineCache buildCaffeineCache(
+      String name, Cache<?, ?> cache, Consumer<Object> evictionListener) {
+    return new CaffeineCache(name, (Cache<Object, Object>) cache) {
+      @Override
+      protected Object lookup(Object key) {
+        return getNativeCache().getIfPresent(key);
+      }
+
+      @Override
+      public void evict(Object key) {
+        super.evict(key);
+        evictionListener.accept(key);
+      }
 
-    return new CaffeineCache(TRANSLATION_CACHE_NAME, cacheBuilder);
+      @Override
+      public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        evictionListener.accept(key);
+        return present;
+      }
+    };
   }
 }
@@ -0,0 +1,196 @@
+package com.pokemon.backend.config;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pokemon.backend.http.Upstream;
+import com.pokemon.backend.http.UpstreamCircuitBreaker;
+import com.pokemon.backend.http.UpstreamHttpClient;
+import com.pokemon.backend.http.UpstreamRequestHedger;
+import com.pokemon.backend.http.translation.TranslationBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@Log4j2
+public class HttpClientConfig {
+  public static final String POKEMON_UPSTREAM_HTTP_CLIENT_NAME = "pokemonUpstreamHttpClient";
+  public static final String TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME =
+      "translationUpstreamHttpClient";
+  public static final String TRANSLATION_CIRCUIT_BREAKER_NAME = "translationCircuitBreaker";
+  public static final String POKEMON_REQUEST_HEDGER_NAME = "pokemonRequestHedger";
+  public static final String TRANSLATION_BATCHER_NAME = "translationBatcher";
+
+  @Value("${app.threads.virtual}")
+  private Boolean virtualThreads;
+
+  @Value("${app.http.pokemon.connect-timeout}")
+  private Integer pokemonConnectTimeout;
+
+  @Value("${app.http.pokemon.request-timeout}")
+  private Integer pokemonRequestTimeout;
+
+  @Value("${app.http.pokemon.version}")
+  private HttpClient.Version pokemonVersion;
+
+  @Value("${app.http.pokemon.executor-size}")
+  private Integer pokemonExecutorSize;
+
+  @Value("${app.http.pokemon.hedge.enabled}")
+  private Boolean pokemonHedgeEnabled;
+
+  @Value("${app.http.pokemon.hedge.percentile}")
+  private Double pokemonHedgePercentile;
+
+  @Value("${app.http.pokemon.hedge.min-delay}")
+  private Integer pokemonHedgeMinDelay;
+
+  @Value("${app.http.translation.connect-timeout}")
+  private Integer translationConnectTimeout;
+
+  @Value("${app.http.translation.request-timeout}")
+  private Integer translationRequestTimeout;
+
+  @Value("${app.http.translation.version}")
+  private HttpClient.Version translationVersion;
+
+  @Value("${app.http.translation.executor-size}")
+  private Integer translationExecutorSize;
+
+  @Value("${app.http.translation.circuit-breaker.failure-threshold}")
+  private Integer translationCircuitBreakerFailureThreshold;
+
+  @Value("${app.http.translation.circuit-breaker.open-duration}")
+  private Integer translationCircuitBreakerOpenDuration;
+
+  @Value("${app.http.translation.circuit-breaker.max-concurrent-calls}")
+  private Integer translationCircuitBreakerMaxConcurrentCalls;
+
+  @Value("${app.http.translation.batch.window}")
+  private Integer translationBatchWindow;
+
+  @Value("${app.http.translation.batch.max-size}")
+  private Integer translationBatchMaxSize;
+
+  @Bean(name = POKEMON_UPSTREAM_HTTP_CLIENT_NAME, destroyMethod = "close")
+  public UpstreamHttpClient pokemonUpstreamHttpClient() {
+    return buildUpstreamHttpClient(
+        Upstream.POKEMON,
+        Duration.ofMillis(pokemonConnectTimeout),
+        Duration.ofMillis(pokemonRequestTimeout),
+        pokemonVersion,
+        pokemonExecutorSize,
+        virtualThreads);
+  }
+
+  @Bean(name = TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME, destroyMethod = "close")
+  public UpstreamHttpClient translationUpstreamHttpClient() {
+    return buildUpstreamHttpClient(
+        Upstream.TRANSLATION,
+        Duration.ofMillis(translationConnectTimeout),
+        Duration.ofMillis(translationRequestTimeout),
+        translationVersion,
+        translationExecutorSize,
+        virtualThreads);
+  }
+
+  @Bean(name = POKEMON_REQUEST_HEDGER_NAME)
+  public UpstreamRequestHedger pokemonRequestHedger(MeterRegistry meterRegistry) {
+    log.info(
+        "Building {} request hedger with enabled status: {}, percentile: {} and min delay: {} ms",
+        Upstream.POKEMON.name,
+        pokemonHedgeEnabled,
+        pokemonHedgePercentile,
+        pokemonHedgeMinDelay);
+    return new UpstreamRequestHedger(
+        Upstream.POKEMON,
+        pokemonHedgeEnabled,
+        pokemonHedgePercentile,
+        Duration.ofMillis(pokemonHedgeMinDelay),
+        meterRegistry);
+  }
+
+  @Bean(name = TRANSLATION_CIRCUIT_BREAKER_NAME)
+  public UpstreamCircuitBreaker translationCircuitBreaker(
+      Ticker ticker, MeterRegistry meterRegistry) {
+    log.info(
+        "Building {} circuit breaker with failure threshold: {}, open duration: {} ms and max concurrent calls: {}",
+        Upstream.TRANSLATION.name,
+        translationCircuitBreakerFailureThreshold,
+        translationCircuitBreakerOpenDuration,
+        translationCircuitBreakerMaxConcurrentCalls);
+    return UpstreamCircuitBreaker.of(
+        Upstream.TRANSLATION,
+        translationCircuitBreakerFailureThreshold,
+        Duration.ofMillis(translationCircuitBreakerOpenDuration),
+        translationCircuitBreakerMaxConcurrentCalls,
+        ticker,
+        meterRegistry);
+  }
+
+  @Bean(name = TRANSLATION_BATCHER_NAME)
+  public TranslationBatcher translationBatcher() {
+    log.info(
+        "Building {} batcher with window: {} ms and max size: {}",
+        Upstream.TRANSLATION.name,
+        translationBatchWindow,
+        translationBatchMaxSize);
+    return new TranslationBatcher(
+        Duration.ofMillis(translationBatchWindow), translationBatchMaxSize);
+  }
+
+  public static UpstreamHttpClient buildUpstreamHttpClient(
+      Upstream upstream,
+      Duration connectTimeout,
+      Duration requestTimeout,
+      HttpClient.Version version,
+      Integer executorSize) {
+    return buildUpstreamHttpClient(
+        upstream, connectTimeout, requestTimeout, version, executorSize, false);
+  }
+
+  public static UpstreamHttpClient buildUpstreamHttpClient(
+      Upstream upstream,
+      Duration connectTimeout,
+      Duration requestTimeout,
+      HttpClient.Version version,
+      Integer executorSize,
+      Boolean virtualThreads) {
+    log.info(
+        "Building {} upstream http client with connect timeout: {}, request timeout: {}, version: {} and executor: {}",
+        upstream.name,
+        connectTimeout,
+        requestTimeout,
+        version,
+        virtualThreads ? "virtual threads" : "fixed pool of size " + executorSize);
+    ExecutorService executorService =
+        virtualThreads
+            ? VirtualThreadConfig.newVirtualThreadExecutor(upstream.name + "-http-")
+            : Executors.newFixedThreadPool(executorSize, buildThreadFactory(upstream));
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .version(version)
+            .executor(executorService)
+            .build();
+    return new UpstreamHttpClient(upstream, httpClient, executorService, requestTimeout);
+  }
+
+  private static ThreadFactory buildThreadFactory(Upstream upstream) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      Thread thread =
+          new Thread(runnable, upstream.name + "-http-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
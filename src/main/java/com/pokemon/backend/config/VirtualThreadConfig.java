@@ -0,0 +1,26 @@
+package com.pokemon.backend.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual", havingValue = "true")
+@Log4j2
+public class VirtualThreadConfig {
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    log.info("Running request handling on virtual threads");
+    return protocolHandler -> protocolHandler.setExecutor(newVirtualThreadExecutor("tomcat-"));
+  }
+
+  public static ExecutorService newVirtualThreadExecutor(String threadNamePrefix) {
+    return Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+  }
+}
@@ -1,33 +1,242 @@
 package com.pokemon.backend.controller;
 
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.http.Deadline;
+import com.pokemon.backend.model.language.Language;
 import com.pokemon.backend.model.pokemon.Pokemon;
+import com.pokemon.backend.model.pokemon.PokemonExportOrder;
+import com.pokemon.backend.model.pokemon.PokemonResponse;
+import com.pokemon.backend.model.pokemon.PokemonResult;
+import com.pokemon.backend.service.PokemonExportService;
 import com.pokemon.backend.service.PokemonService;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.net.URISyntaxException;
-import java.util.concurrent.ExecutionException;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/pokemon")
 public class PokemonController {
+  private static final String POKEMON_REQUESTS_METRIC_NAME = "pokemon.requests";
+  private static final String REQUEST_BUDGET_HEADER_NAME = "X-Request-Budget";
+  private static final String GZIP_ENCODING = "gzip";
+
   @Autowired private PokemonService pokemonService;
+  @Autowired private PokemonExportService pokemonExportService;
+
+  @Value("${app.pokemon.request-budget}")
+  private Long requestBudget;
 
+  @Timed(value = POKEMON_REQUESTS_METRIC_NAME, histogram = true)
+  @GetMapping
+  public CompletableFuture<ResponseEntity<List<PokemonResult>>> getPokemons(
+      @RequestParam List<String> names, @RequestParam(defaultValue = "false") Boolean translated) {
+    return pokemonService
+        .getPokemons(names, translated)
+        .thenApply(pokemonResults -> ResponseEntity.ok().body(pokemonResults));
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @ApiResponse(
+      responseCode = "200",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+              schema = @Schema(implementation = PokemonResult.class)))
+  public void exportPokemons(
+      @RequestParam(required = false) List<String> names,
+      @RequestParam(required = false) String ids,
+      @RequestParam(defaultValue = "false") Boolean translated,
+      @RequestParam(defaultValue = "INPUT") PokemonExportOrder order,
+      HttpServletResponse response)
+      throws IOException {
+    Stream<String> pokemonNamesOrIds = pokemonExportService.getExportPokemonNamesOrIds(names, ids);
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    pokemonExportService.export(pokemonNamesOrIds, translated, order, response.getOutputStream());
+  }
+
+  @Timed(value = POKEMON_REQUESTS_METRIC_NAME, histogram = true)
   @GetMapping("/{name}")
-  public ResponseEntity<Pokemon> getPokemon(@PathVariable String name)
-      throws URISyntaxException, ExecutionException, InterruptedException {
-    Pokemon pokemon = pokemonService.getPokemon(name, false);
-    return ResponseEntity.ok().body(pokemon);
+  @ApiResponse(
+      responseCode = "200",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = Pokemon.class)))
+  public CompletableFuture<ResponseEntity<byte[]>> getPokemon(
+      @PathVariable String name,
+      @RequestParam(required = false) String lang,
+      @RequestHeader(name = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+      @RequestHeader(name = REQUEST_BUDGET_HEADER_NAME, required = false) Long budget,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    return getPokemon(
+        name, false, getLanguages(lang, acceptLanguage), budget, ifNoneMatch, acceptEncoding);
   }
 
+  @Timed(value = POKEMON_REQUESTS_METRIC_NAME, histogram = true)
   @GetMapping("/translated/{name}")
-  public ResponseEntity<Pokemon> getPokemonWithTranslatedDescription(@PathVariable String name)
-      throws URISyntaxException, ExecutionException, InterruptedException {
-    Pokemon pokemon = pokemonService.getPokemon(name, true);
-    return ResponseEntity.ok().body(pokemon);
+  @ApiResponse(
+      responseCode = "200",
+      content =
+          @Content(
+              mediaType = MediaType.APPLICATION_JSON_VALUE,
+              schema = @Schema(implementation = Pokemon.class)))
+  public CompletableFuture<ResponseEntity<byte[]>> getPokemonWithTranslatedDescription(
+      @PathVariable String name,
+      @RequestParam(required = false) String lang,
+      @RequestHeader(name = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage,
+      @RequestHeader(name = REQUEST_BUDGET_HEADER_NAME, required = false) Long budget,
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    return getPokemon(
+        name, true, getLanguages(lang, acceptLanguage), budget, ifNoneMatch, acceptEncoding);
+  }
+
+  private CompletableFuture<ResponseEntity<byte[]>> getPokemon(
+      String name,
+      boolean isTranslated,
+      List<Language> languages,
+      Long budget,
+      String ifNoneMatch,
+      String acceptEncoding) {
+    Deadline deadline = getDeadline(budget);
+    boolean isGzipped = acceptsGzip(acceptEncoding);
+    CachedValue<PokemonResponse> cachedPokemonResponse =
+        pokemonService.getCachedPokemonResponse(name, isTranslated, languages);
+    if (cachedPokemonResponse != null) {
+      return CompletableFuture.completedFuture(
+          toResponseEntity(
+              cachedPokemonResponse.getValue(),
+              cachedPokemonResponse.getTimeToLive(),
+              ifNoneMatch,
+              isGzipped));
+    }
+    return pokemonService
+        .getPokemon(name, isTranslated, languages, deadline)
+        .thenApply(
+            pokemon -> {
+              CachedValue<PokemonResponse> loadedPokemonResponse =
+                  pokemonService.getCachedPokemonResponse(name, isTranslated, languages);
+              return loadedPokemonResponse != null
+                      && Objects.equals(
+                          loadedPokemonResponse.getValue().getDescription(),
+                          pokemon.getDescription())
+                  ? toResponseEntity(
+                      loadedPokemonResponse.getValue(),
+                      loadedPokemonResponse.getTimeToLive(),
+                      ifNoneMatch,
+                      isGzipped)
+                  : toResponseEntity(
+                      pokemonService.toPokemonResponse(pokemon),
+                      Duration.ZERO,
+                      ifNoneMatch,
+                      isGzipped);
+            });
+  }
+
+  private ResponseEntity<byte[]> toResponseEntity(
+      PokemonResponse pokemonResponse, Duration timeToLive, String ifNoneMatch, boolean isGzipped) {
+    String eTag = isGzipped ? pokemonResponse.getGzippedETag() : pokemonResponse.getETag();
+    CacheControl cacheControl =
+        timeToLive.getSeconds() > 0
+            ? CacheControl.maxAge(timeToLive.getSeconds(), TimeUnit.SECONDS).cachePublic()
+            : CacheControl.noCache();
+    if (matchesETag(ifNoneMatch, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .cacheControl(cacheControl)
+          .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE)
+          .build();
+    }
+    ResponseEntity.BodyBuilder responseEntity =
+        ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(eTag)
+            .cacheControl(cacheControl)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE);
+    return isGzipped
+        ? responseEntity
+            .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+            .body(pokemonResponse.getGzippedBody())
+        : responseEntity.body(pokemonResponse.getBody());
+  }
+
+  private List<Language> getLanguages(String lang, String acceptLanguage) {
+    if (lang == null) {
+      return Language.fromAcceptLanguage(acceptLanguage);
+    }
+    Language language = Language.of(lang);
+    if (language == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported language: " + lang);
+    }
+    return List.of(language);
+  }
+
+  private boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String encoding : acceptEncoding.split(",")) {
+      String[] encodingParameters = encoding.split(";");
+      String encodingName = encodingParameters[0].trim();
+      if (encodingName.equalsIgnoreCase(GZIP_ENCODING) || encodingName.equals("*")) {
+        return encodingParameters.length < 2
+            || !encodingParameters[1].trim().matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  private boolean matchesETag(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String requestETag : ifNoneMatch.split(",")) {
+      String trimmedRequestETag = requestETag.trim();
+      if (trimmedRequestETag.startsWith("W/")) {
+        trimmedRequestETag = trimmedRequestETag.substring(2);
+      }
+      if (trimmedRequestETag.equals("*") || trimmedRequestETag.equals(eTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Deadline getDeadline(Long budget) {
+    if (budget == null) {
+      return Deadline.after(Duration.ofMillis(Math.max(requestBudget, 0)));
+    }
+    if (budget <= 0) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Invalid " + REQUEST_BUDGET_HEADER_NAME + ": " + budget);
+    }
+    return Deadline.after(
+        Duration.ofMillis(requestBudget > 0 ? Math.min(budget, requestBudget) : budget));
   }
 }
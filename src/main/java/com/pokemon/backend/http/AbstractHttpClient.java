@@ -1,27 +1,87 @@
 package com.pokemon.backend.http;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Service
+@RequiredArgsConstructor
 public class AbstractHttpClient {
-  private static final ExecutorService executorService =
-      Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
-  public HttpResponse<String> getResponse(HttpRequest httprequest)
-      throws ExecutionException, InterruptedException {
-    CompletableFuture<HttpResponse<String>> response =
-        HttpClient.newBuilder()
-            .executor(executorService)
-            .build()
-            .sendAsync(httprequest, HttpResponse.BodyHandlers.ofString());
-    return response.get();
+  private static final String UPSTREAM_REQUESTS_METRIC_NAME = "upstream.requests";
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<List<String>, Timer> upstreamRequestTimers =
+      new ConcurrentHashMap<>();
+
+  public CompletableFuture<HttpResponse<String>> getResponse(
+      UpstreamHttpClient upstreamHttpClient, HttpRequest httprequest) {
+    return getResponse(upstreamHttpClient, httprequest, HttpResponse.BodyHandlers.ofString());
+  }
+
+  public <T> CompletableFuture<HttpResponse<T>> getResponse(
+      UpstreamHttpClient upstreamHttpClient,
+      HttpRequest httprequest,
+      HttpResponse.BodyHandler<T> bodyHandler) {
+    return send(upstreamHttpClient, httprequest, bodyHandler);
+  }
+
+  private <T> CompletableFuture<HttpResponse<T>> send(
+      UpstreamHttpClient upstreamHttpClient,
+      HttpRequest httprequest,
+      HttpResponse.BodyHandler<T> bodyHandler) {
+    upstreamHttpClient.getRequestCount().incrementAndGet();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    CompletableFuture<HttpResponse<T>> response =
+        upstreamHttpClient.getHttpClient().sendAsync(httprequest, bodyHandler);
+    return propagateCancellation(
+        response.whenComplete(
+            (value, exception) ->
+                sample.stop(
+                    getUpstreamRequestTimer(
+                        upstreamHttpClient.getUpstream().name,
+                        httprequest.method(),
+                        getStatus(value, exception)))),
+        response);
+  }
+
+  public static <T> CompletableFuture<T> propagateCancellation(
+      CompletableFuture<T> future, CompletableFuture<?> source) {
+    future.whenComplete(
+        (value, exception) -> {
+          if (future.isCancelled()) {
+            source.cancel(true);
+          }
+        });
+    return future;
+  }
+
+  private Timer getUpstreamRequestTimer(String upstream, String method, String status) {
+    return upstreamRequestTimers.computeIfAbsent(
+        List.of(upstream, method, status),
+        key ->
+            Timer.builder(UPSTREAM_REQUESTS_METRIC_NAME)
+                .description("Requests sent to upstream servers")
+                .tag("upstream", upstream)
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+  }
+
+  private String getStatus(HttpResponse<?> response, Throwable exception) {
+    if (response != null) {
+      return String.valueOf(response.statusCode());
+    }
+    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+    return cause.getClass().getSimpleName();
   }
 }
@@ -0,0 +1,43 @@
+package com.pokemon.backend.http;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Value
+public class CachedValue<V> {
+  V value;
+  Duration timeToLive;
+
+  public static <K, V> CachedValue<V> get(AsyncCache<K, V> cache, K key) {
+    CompletableFuture<V> future = cache.asMap().get(key);
+    if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+      return null;
+    }
+    V value = future.join();
+    return value != null ? new CachedValue<>(value, getTimeToLive(cache, key)) : null;
+  }
+
+  private static <K> Duration getTimeToLive(AsyncCache<K, ?> cache, K key) {
+    Policy<K, ?> policy = cache.synchronous().policy();
+    Duration timeToLive =
+        policy
+            .refreshAfterWrite()
+            .flatMap(
+                refresh -> refresh.ageOf(key).map(age -> refresh.getRefreshesAfter().minus(age)))
+            .or(
+                () ->
+                    policy
+                        .expireAfterWrite()
+                        .flatMap(
+                            expiration ->
+                                expiration
+                                    .ageOf(key)
+                                    .map(age -> expiration.getExpiresAfter().minus(age))))
+            .orElse(Duration.ZERO);
+    return timeToLive.isNegative() ? Duration.ZERO : timeToLive;
+  }
+}
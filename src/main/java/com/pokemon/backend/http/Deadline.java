@@ -0,0 +1,56 @@
+package com.pokemon.backend.http;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class Deadline {
+  private static final Deadline NONE = new Deadline(0, false);
+
+  private final long deadlineNanos;
+  private final boolean bounded;
+
+  private Deadline(long deadlineNanos, boolean bounded) {
+    this.deadlineNanos = deadlineNanos;
+    this.bounded = bounded;
+  }
+
+  public static Deadline none() {
+    return NONE;
+  }
+
+  public static Deadline after(Duration budget) {
+    return budget.isZero() ? NONE : new Deadline(System.nanoTime() + budget.toNanos(), true);
+  }
+
+  public boolean hasRemaining(Duration duration) {
+    return !bounded || remainingNanos() >= duration.toNanos();
+  }
+
+  public <T> CompletableFuture<T> bound(CompletableFuture<T> future, String operation) {
+    if (!bounded) {
+      return future;
+    }
+    return future
+        .copy()
+        .orTimeout(Math.max(remainingNanos(), 0), TimeUnit.NANOSECONDS)
+        .exceptionally(
+            exception -> {
+              Throwable cause =
+                  exception instanceof CompletionException ? exception.getCause() : exception;
+              if (cause instanceof TimeoutException) {
+                throw new DeadlineExceededException(
+                    "Deadline exceeded while waiting to " + operation);
+              }
+              throw exception instanceof CompletionException
+                  ? (CompletionException) exception
+                  : new CompletionException(exception);
+            });
+  }
+
+  private long remainingNanos() {
+    return deadlineNanos - System.nanoTime();
+  }
+}
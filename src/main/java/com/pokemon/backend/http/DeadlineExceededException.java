@@ -0,0 +1,9 @@
+package com.pokemon.backend.http;
+
+public class DeadlineExceededException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+
+  public DeadlineExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.pokemon.backend.http;
+
+public enum Upstream {
+  POKEMON("pokemon"),
+  TRANSLATION("translation");
+
+  public final String name;
+
+  Upstream(String name) {
+    this.name = name;
+  }
+}
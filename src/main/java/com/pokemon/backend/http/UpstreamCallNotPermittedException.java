@@ -0,0 +1,16 @@
+package com.pokemon.backend.http;
+
+import lombok.Getter;
+
+@Getter
+public class UpstreamCallNotPermittedException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+  private final Upstream upstream;
+  private final String reason;
+
+  public UpstreamCallNotPermittedException(Upstream upstream, String reason) {
+    super(upstream.name + " server call not permitted as " + reason);
+    this.upstream = upstream;
+    this.reason = reason;
+  }
+}
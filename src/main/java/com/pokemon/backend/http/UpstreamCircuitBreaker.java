@@ -0,0 +1,199 @@
+package com.pokemon.backend.http;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * While half open, only the outcome of the single trial call decides whether the circuit closes or
+ * opens again; calls that were already in flight are ignored. Only transport errors, including the
+ * server's own timeout, 429 and 5xx responses count as failures; expired deadlines, cancellations
+ * and other errors of the caller leave the circuit as it is.
+ */
+@Log4j2
+public class UpstreamCircuitBreaker {
+  private static final String STATE_METRIC_NAME = "upstream.circuit.breaker.state";
+  private static final String REJECTIONS_METRIC_NAME = "upstream.circuit.breaker.rejections";
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final Upstream upstream;
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Semaphore bulkhead;
+  private final Ticker ticker;
+  private final MeterRegistry meterRegistry;
+  private State state = State.CLOSED;
+  private int failureCount;
+  private long openUntil;
+  private boolean trialCallInFlight;
+
+  private UpstreamCircuitBreaker(
+      Upstream upstream,
+      int failureThreshold,
+      Duration openDuration,
+      int maxConcurrentCalls,
+      Ticker ticker,
+      MeterRegistry meterRegistry) {
+    this.upstream = upstream;
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.ticker = ticker;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public static UpstreamCircuitBreaker of(
+      Upstream upstream,
+      int failureThreshold,
+      Duration openDuration,
+      int maxConcurrentCalls,
+      Ticker ticker,
+      MeterRegistry meterRegistry) {
+    UpstreamCircuitBreaker upstreamCircuitBreaker =
+        new UpstreamCircuitBreaker(
+            upstream, failureThreshold, openDuration, maxConcurrentCalls, ticker, meterRegistry);
+    Gauge.builder(
+            STATE_METRIC_NAME,
+            upstreamCircuitBreaker,
+            circuitBreaker -> circuitBreaker.getState().ordinal())
+        .description("Circuit breaker state of upstream servers: 0 closed, 1 open, 2 half open")
+        .tag("upstream", upstream.name)
+        .strongReference(true)
+        .register(meterRegistry);
+    return upstreamCircuitBreaker;
+  }
+
+  public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> call) {
+    if (!bulkhead.tryAcquire()) {
+      return reject("bulkhead", "bulkhead is full");
+    }
+    State permittedState = tryAcquirePermission();
+    if (permittedState == null) {
+      bulkhead.release();
+      return reject("open", "circuit is open");
+    }
+    boolean isTrialCall = permittedState == State.HALF_OPEN;
+    CompletableFuture<T> result;
+    try {
+      result = call.get();
+    } catch (RuntimeException exception) {
+      result = CompletableFuture.failedFuture(exception);
+    }
+    return result.whenComplete(
+        (value, exception) -> {
+          bulkhead.release();
+          onResult(exception, isTrialCall);
+        });
+  }
+
+  public synchronized State getState() {
+    return state == State.OPEN && ticker.read() - openUntil >= 0 ? State.HALF_OPEN : state;
+  }
+
+  public static Duration getRetryAfter(HttpResponse<?> response) {
+    String retryAfter = response.headers().firstValue("Retry-After").orElse(null);
+    if (retryAfter == null || retryAfter.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+    } catch (NumberFormatException exception) {
+      try {
+        Duration duration =
+            Duration.between(
+                ZonedDateTime.now(),
+                ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+        return duration.isNegative() ? Duration.ZERO : duration;
+      } catch (DateTimeParseException dateTimeParseException) {
+        return null;
+      }
+    }
+  }
+
+  private synchronized State tryAcquirePermission() {
+    switch (getState()) {
+      case CLOSED:
+        return State.CLOSED;
+      case HALF_OPEN:
+        if (trialCallInFlight) {
+          return null;
+        }
+        state = State.HALF_OPEN;
+        trialCallInFlight = true;
+        return State.HALF_OPEN;
+      default:
+        return null;
+    }
+  }
+
+  private synchronized void onResult(Throwable exception, boolean isTrialCall) {
+    if (state == State.OPEN || (state == State.HALF_OPEN && !isTrialCall)) {
+      return;
+    }
+    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+    if (cause == null) {
+      onSuccess();
+    } else if (cause instanceof UpstreamResponseException) {
+      UpstreamResponseException upstreamResponseException = (UpstreamResponseException) cause;
+      int statusCode = upstreamResponseException.getStatusCode();
+      if (statusCode == 429 && upstreamResponseException.getRetryAfter() != null) {
+        open(upstreamResponseException.getRetryAfter(), "Retry-After of 429 response");
+      } else if (statusCode == 429 || statusCode >= 500) {
+        onFailure();
+      } else {
+        onSuccess();
+      }
+    } else if (cause instanceof IOException) {
+      onFailure();
+    } else if (isTrialCall) {
+      trialCallInFlight = false;
+    }
+  }
+
+  private synchronized void onSuccess() {
+    if (state != State.CLOSED) {
+      log.info("Closing circuit of {} server", upstream.name);
+    }
+    state = State.CLOSED;
+    failureCount = 0;
+    trialCallInFlight = false;
+  }
+
+  private synchronized void onFailure() {
+    failureCount++;
+    if (state == State.HALF_OPEN || failureCount >= failureThreshold) {
+      open(openDuration, failureCount + " consecutive failures");
+    }
+  }
+
+  private synchronized void open(Duration duration, String reason) {
+    log.warn("Opening circuit of {} server for {} after {}", upstream.name, duration, reason);
+    state = State.OPEN;
+    openUntil = ticker.read() + duration.toNanos();
+    trialCallInFlight = false;
+  }
+
+  private <T> CompletableFuture<T> reject(String rejection, String reason) {
+    meterRegistry
+        .counter(REJECTIONS_METRIC_NAME, "upstream", upstream.name, "reason", rejection)
+        .increment();
+    return CompletableFuture.failedFuture(new UpstreamCallNotPermittedException(upstream, reason));
+  }
+}
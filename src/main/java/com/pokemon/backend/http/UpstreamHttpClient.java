@@ -0,0 +1,44 @@
+package com.pokemon.backend.http;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Log4j2
+@Getter
+public class UpstreamHttpClient {
+  private final Upstream upstream;
+  private final HttpClient httpClient;
+  private final ExecutorService executorService;
+  private final Duration requestTimeout;
+  private final AtomicLong requestCount = new AtomicLong();
+
+  public UpstreamHttpClient(
+      Upstream upstream,
+      HttpClient httpClient,
+      ExecutorService executorService,
+      Duration requestTimeout) {
+    this.upstream = upstream;
+    this.httpClient = httpClient;
+    this.executorService = executorService;
+    this.requestTimeout = requestTimeout;
+  }
+
+  public HttpRequest.Builder newRequestBuilder(URI uri) {
+    return HttpRequest.newBuilder().uri(uri).timeout(requestTimeout);
+  }
+
+  public void close() {
+    log.info(
+        "Closing {} upstream http client after sending {} requests",
+        upstream.name,
+        requestCount.get());
+    executorService.shutdown();
+  }
+}
@@ -0,0 +1,144 @@
+package com.pokemon.backend.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Log4j2
+public class UpstreamRequestHedger {
+  private static final String HEDGES_METRIC_NAME = "upstream.hedges";
+  private static final int LATENCY_SAMPLE_SIZE = 256;
+  private static final int MIN_LATENCY_SAMPLE_COUNT = 20;
+  private static final int HEDGE_DELAY_RECOMPUTE_INTERVAL = 16;
+
+  private final Upstream upstream;
+  private final boolean enabled;
+  private final double percentile;
+  private final Duration minDelay;
+  private final MeterRegistry meterRegistry;
+  private final long[] latencySamples = new long[LATENCY_SAMPLE_SIZE];
+  private int latencySampleCount;
+  private int nextLatencySampleIndex;
+  private long recordedLatencyCount;
+  private volatile Duration hedgeDelay;
+
+  public UpstreamRequestHedger(
+      Upstream upstream,
+      boolean enabled,
+      double percentile,
+      Duration minDelay,
+      MeterRegistry meterRegistry) {
+    this.upstream = upstream;
+    this.enabled = enabled;
+    this.percentile = percentile;
+    this.minDelay = minDelay;
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> attempt) {
+    Duration delay = getHedgeDelay();
+    if (delay == null) {
+      return attempt(attempt);
+    }
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger attemptsInFlight = new AtomicInteger(1);
+    AtomicBoolean hedged = new AtomicBoolean();
+    AtomicReference<CompletableFuture<T>> hedgeAttempt = new AtomicReference<>();
+    CompletableFuture<T> firstAttempt = attempt(attempt);
+    complete(result, firstAttempt, hedgeAttempt::get, attemptsInFlight, hedged, "lost");
+    CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS)
+        .execute(
+            () -> {
+              if (result.isDone()
+                  || attemptsInFlight.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                return;
+              }
+              log.info("Hedging {} server request after {}", upstream.name, delay);
+              hedged.set(true);
+              hedgeAttempt.set(attempt(attempt));
+              complete(
+                  result, hedgeAttempt.get(), () -> firstAttempt, attemptsInFlight, hedged, "won");
+              result.whenComplete(
+                  (value, exception) -> {
+                    firstAttempt.cancel(true);
+                    hedgeAttempt.get().cancel(true);
+                  });
+            });
+    return result;
+  }
+
+  Duration getHedgeDelay() {
+    return hedgeDelay;
+  }
+
+  private Duration computeHedgeDelay() {
+    long[] sortedLatencySamples = Arrays.copyOf(latencySamples, latencySampleCount);
+    Arrays.sort(sortedLatencySamples);
+    int index = (int) Math.ceil(percentile * sortedLatencySamples.length) - 1;
+    Duration delay =
+        Duration.ofNanos(
+            sortedLatencySamples[Math.max(0, Math.min(index, sortedLatencySamples.length - 1))]);
+    return delay.compareTo(minDelay) < 0 ? minDelay : delay;
+  }
+
+  private <T> CompletableFuture<T> attempt(Supplier<CompletableFuture<T>> attempt) {
+    if (!enabled) {
+      return attempt.get();
+    }
+    long startTime = System.nanoTime();
+    CompletableFuture<T> attemptResult = attempt.get();
+    return AbstractHttpClient.propagateCancellation(
+        attemptResult.whenComplete(
+            (value, exception) -> {
+              if (exception == null) {
+                recordLatency(System.nanoTime() - startTime);
+              }
+            }),
+        attemptResult);
+  }
+
+  private <T> void complete(
+      CompletableFuture<T> result,
+      CompletableFuture<T> attempt,
+      Supplier<CompletableFuture<T>> otherAttempt,
+      AtomicInteger attemptsInFlight,
+      AtomicBoolean hedged,
+      String hedgeResult) {
+    attempt.whenComplete(
+        (value, exception) -> {
+          if (exception == null) {
+            CompletableFuture<T> losingAttempt = otherAttempt.get();
+            if (losingAttempt != null) {
+              losingAttempt.cancel(true);
+            }
+            if (result.complete(value) && hedged.get()) {
+              meterRegistry
+                  .counter(HEDGES_METRIC_NAME, "upstream", upstream.name, "result", hedgeResult)
+                  .increment();
+            }
+          } else if (attemptsInFlight.decrementAndGet() == 0) {
+            result.completeExceptionally(exception);
+          }
+        });
+  }
+
+  private synchronized void recordLatency(long latencyNanos) {
+    latencySamples[nextLatencySampleIndex] = latencyNanos;
+    nextLatencySampleIndex = (nextLatencySampleIndex + 1) % LATENCY_SAMPLE_SIZE;
+    latencySampleCount = Math.min(latencySampleCount + 1, LATENCY_SAMPLE_SIZE);
+    recordedLatencyCount++;
+    if (latencySampleCount >= MIN_LATENCY_SAMPLE_COUNT
+        && (recordedLatencyCount == MIN_LATENCY_SAMPLE_COUNT
+            || recordedLatencyCount % HEDGE_DELAY_RECOMPUTE_INTERVAL == 0)) {
+      hedgeDelay = computeHedgeDelay();
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.pokemon.backend.http;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class UpstreamResponseException extends RuntimeException {
+  private static final long serialVersionUID = 1L;
+  private final Upstream upstream;
+  private final int statusCode;
+  private final String responseBody;
+  private final Duration retryAfter;
+
+  public UpstreamResponseException(Upstream upstream, int statusCode, String responseBody) {
+    this(upstream, statusCode, responseBody, null);
+  }
+
+  public UpstreamResponseException(
+      Upstream upstream, int statusCode, String responseBody, Duration retryAfter) {
+    super(
+        upstream.name
+            + " server responded with status code: "
+            + statusCode
+            + " and message: "
+            + responseBody);
+    this.upstream = upstream;
+    this.statusCode = statusCode;
+    this.responseBody = responseBody;
+    this.retryAfter = retryAfter;
+  }
+}
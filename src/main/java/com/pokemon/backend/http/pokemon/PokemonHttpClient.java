@@ -1,38 +1,298 @@
 package com.pokemon.backend.http.pokemon;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.jayway.jsonpath.JsonPath;
+import com.pokemon.backend.cache.SharedCacheTier;
+import com.pokemon.backend.config.JsonPathConfig;
 import com.pokemon.backend.http.AbstractHttpClient;
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.http.Deadline;
+import com.pokemon.backend.http.Upstream;
+import com.pokemon.backend.http.UpstreamHttpClient;
+import com.pokemon.backend.http.UpstreamRequestHedger;
+import com.pokemon.backend.http.UpstreamResponseException;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.concurrent.ExecutionException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_NEAR_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_NOT_FOUND_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_SHARED_CACHE_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.POKEMON_REQUEST_HEDGER_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.POKEMON_UPSTREAM_HTTP_CLIENT_NAME;
 
 @Service
+@Log4j2
 public class PokemonHttpClient {
   private static final String POKEMON_SPECIES_URL_PATH = "/api/v2/pokemon-species/";
+  private static final String POKEMON_NOT_FOUND_METRIC_NAME = "pokemon.not.found";
+  private static final String NOT_FOUND_RESPONSE_BODY = "Not Found";
+  private static final double NAME_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
 
   @Value("${app.base.url.pokemon}")
   private String pokemonBaseUrl;
 
+  @Value("${app.http.pokemon.species-parser}")
+  private PokemonSpeciesParserMode pokemonSpeciesParserMode;
+
+  @Value("${app.caches.pokemon-not-found.name-filter}")
+  private Boolean nameFilterEnabled;
+
   @Autowired private AbstractHttpClient abstractHttpClient;
+  @Autowired private PokemonSpeciesParser pokemonSpeciesParser;
+  @Autowired private PokemonSpeciesSnapshot pokemonSpeciesSnapshot;
+  @Autowired private JsonPathConfig jsonPathConfig;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired
+  @Qualifier(POKEMON_NOT_FOUND_CACHE_NAME)
+  private Cache<String, String> pokemonNotFoundCache;
+
+  @Autowired
+  @Qualifier(POKEMON_CACHE_NAME)
+  private AsyncLoadingCache<String, PokemonSpecies> pokemonCache;
+
+  @Autowired
+  @Qualifier(POKEMON_NEAR_CACHE_NAME)
+  private PokemonNearCache pokemonNearCache;
+
+  @Autowired
+  @Qualifier(POKEMON_SHARED_CACHE_NAME)
+  private SharedCacheTier<String, PokemonSpecies> pokemonSharedCache;
+
+  @Autowired
+  @Qualifier(POKEMON_UPSTREAM_HTTP_CLIENT_NAME)
+  private UpstreamHttpClient pokemonUpstreamHttpClient;
+
+  @Autowired
+  @Qualifier(POKEMON_REQUEST_HEDGER_NAME)
+  private UpstreamRequestHedger pokemonRequestHedger;
+
+  private final Map<String, String> pokemonNamesById = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<PokemonSpecies>> pokemonLoadsById =
+      new ConcurrentHashMap<>();
+  private volatile PokemonSpeciesNameFilter pokemonSpeciesNameFilter;
+
+  public CompletableFuture<PokemonSpecies> getPokemon(String nameOrId) {
+    return getPokemon(nameOrId, Deadline.none());
+  }
+
+  public CompletableFuture<PokemonSpecies> getPokemon(String nameOrId, Deadline deadline) {
+    String name = getPokemonName(nameOrId);
+    if (isId(name)) {
+      return deadline.bound(getPokemonById(name), "get pokemon with id: " + name);
+    }
+    CompletableFuture<PokemonSpecies> nearCachedPokemonSpecies = pokemonNearCache.get(name);
+    if (nearCachedPokemonSpecies != null) {
+      return nearCachedPokemonSpecies;
+    }
+    if (pokemonNearCache.isEnabled()) {
+      admitToNearCache(name);
+    }
+    return deadline.bound(pokemonCache.get(name), "get pokemon with name: " + name);
+  }
+
+  public CachedValue<PokemonSpecies> getCachedPokemon(String nameOrId) {
+    String name = getPokemonName(nameOrId);
+    if (isId(name)) {
+      return null;
+    }
+    CachedValue<PokemonSpecies> nearCachedPokemonSpecies = pokemonNearCache.getCachedValue(name);
+    if (nearCachedPokemonSpecies != null) {
+      return nearCachedPokemonSpecies;
+    }
+    return admitToNearCache(name);
+  }
+
+  private CachedValue<PokemonSpecies> admitToNearCache(String name) {
+    CachedValue<PokemonSpecies> cachedPokemonSpecies = CachedValue.get(pokemonCache, name);
+    if (cachedPokemonSpecies != null && pokemonNearCache.recordMiss(name)) {
+      pokemonNearCache.put(name, cachedPokemonSpecies);
+    }
+    return cachedPokemonSpecies;
+  }
+
+  public static String getCanonicalName(String nameOrId) {
+    String name = nameOrId.trim().toLowerCase(Locale.ROOT);
+    return isId(name) ? name.replaceFirst("^0+(?=\\d)", "") : name;
+  }
+
+  private String getPokemonName(String nameOrId) {
+    String name = getCanonicalName(nameOrId);
+    return isId(name) ? pokemonNamesById.getOrDefault(name, name) : name;
+  }
 
-  @Cacheable(cacheNames = POKEMON_CACHE_NAME, unless = "#result.statusCode() != 200")
-  public HttpResponse<String> getPokemon(String name)
-      throws URISyntaxException, ExecutionException, InterruptedException {
+  private CompletableFuture<PokemonSpecies> getPokemonById(String id) {
+    CompletableFuture<PokemonSpecies> pokemonLoad =
+        pokemonLoadsById.computeIfAbsent(
+            id,
+            key ->
+                fetchPokemon(key)
+                    .thenApply(
+                        pokemonSpecies -> {
+                          pokemonCache.put(
+                              pokemonSpecies.getName(),
+                              CompletableFuture.completedFuture(pokemonSpecies));
+                          pokemonNamesById.put(key, pokemonSpecies.getName());
+                          return pokemonSpecies;
+                        }));
+    pokemonLoad.whenComplete((ignored, exception) -> pokemonLoadsById.remove(id, pokemonLoad));
+    return pokemonLoad;
+  }
+
+  public CompletableFuture<PokemonSpecies> fetchPokemon(String name) {
+    PokemonSpecies pokemonSpecies = getSnapshotPokemon(name);
+    if (pokemonSpecies != null) {
+      return CompletableFuture.completedFuture(pokemonSpecies);
+    }
+    PokemonSpeciesNameFilter nameFilter = pokemonSpeciesNameFilter;
+    if (nameFilter != null && !isId(name) && !nameFilter.mightContain(name)) {
+      return notFound(NOT_FOUND_RESPONSE_BODY, "name_filter");
+    }
+    String notFoundResponseBody = pokemonNotFoundCache.getIfPresent(name);
+    if (notFoundResponseBody != null) {
+      return notFound(notFoundResponseBody, "negative_cache");
+    }
+    if (isId(name)) {
+      return fetchPokemonFromUpstream(name);
+    }
+    return pokemonSharedCache
+        .get(name)
+        .thenCompose(
+            sharedPokemonSpecies ->
+                sharedPokemonSpecies != null
+                    ? CompletableFuture.completedFuture(sharedPokemonSpecies)
+                    : fetchPokemonFromUpstream(name));
+  }
+
+  private CompletableFuture<PokemonSpecies> fetchPokemonFromUpstream(String name) {
+    return pokemonRequestHedger
+        .execute(() -> requestPokemon(name))
+        .whenComplete(
+            (pokemonSpecies, exception) -> {
+              if (pokemonSpecies != null) {
+                pokemonSharedCache.put(pokemonSpecies.getName(), pokemonSpecies);
+              }
+              Throwable cause =
+                  exception instanceof CompletionException ? exception.getCause() : exception;
+              if (cause instanceof UpstreamResponseException
+                  && ((UpstreamResponseException) cause).getStatusCode()
+                      == HttpStatus.NOT_FOUND.value()) {
+                pokemonNotFoundCache.put(
+                    name, ((UpstreamResponseException) cause).getResponseBody());
+                countNotFound("upstream");
+              }
+            });
+  }
+
+  public CompletableFuture<Void> loadPokemonSpeciesNameFilter() {
+    if (!nameFilterEnabled) {
+      return CompletableFuture.completedFuture(null);
+    }
     HttpRequest request =
-        HttpRequest.newBuilder()
-            .uri(new URI(pokemonBaseUrl + POKEMON_SPECIES_URL_PATH + name))
-            .version(HttpClient.Version.HTTP_2)
+        pokemonUpstreamHttpClient
+            .newRequestBuilder(
+                URI.create(pokemonBaseUrl + POKEMON_SPECIES_URL_PATH + "?limit=100000"))
             .GET()
             .build();
-    return abstractHttpClient.getResponse(request);
+    return abstractHttpClient
+        .getResponse(pokemonUpstreamHttpClient, request)
+        .thenAccept(
+            pokemonSpeciesListResponse -> {
+              checkStatusCode(
+                  pokemonSpeciesListResponse.statusCode(), pokemonSpeciesListResponse::body);
+              List<String> names =
+                  JsonPath.using(jsonPathConfig.getJsonPathConfig())
+                      .parse(pokemonSpeciesListResponse.body())
+                      .read("$['results'][*]['name']");
+              if (names == null || names.isEmpty()) {
+                throw new IllegalStateException("Pokemon server listed no species");
+              }
+              pokemonSpeciesNameFilter =
+                  PokemonSpeciesNameFilter.of(names, NAME_FILTER_FALSE_POSITIVE_PROBABILITY);
+              log.info(
+                  "Loaded species name filter with {} species in {} bits",
+                  names.size(),
+                  pokemonSpeciesNameFilter.getBitCount());
+            });
+  }
+
+  private PokemonSpecies getSnapshotPokemon(String name) {
+    if (!isId(name)) {
+      return pokemonSpeciesSnapshot.get(name);
+    }
+    return name.length() < 10 ? pokemonSpeciesSnapshot.getById(Integer.parseInt(name)) : null;
+  }
+
+  private static boolean isId(String name) {
+    return !name.isEmpty() && name.chars().allMatch(Character::isDigit);
+  }
+
+  private CompletableFuture<PokemonSpecies> notFound(String responseBody, String source) {
+    countNotFound(source);
+    return CompletableFuture.failedFuture(
+        new UpstreamResponseException(
+            Upstream.POKEMON, HttpStatus.NOT_FOUND.value(), responseBody));
+  }
+
+  private void countNotFound(String source) {
+    meterRegistry.counter(POKEMON_NOT_FOUND_METRIC_NAME, "source", source).increment();
+  }
+
+  private CompletableFuture<PokemonSpecies> requestPokemon(String name) {
+    HttpRequest request =
+        pokemonUpstreamHttpClient
+            .newRequestBuilder(URI.create(pokemonBaseUrl + POKEMON_SPECIES_URL_PATH + name))
+            .GET()
+            .build();
+    if (pokemonSpeciesParserMode == PokemonSpeciesParserMode.JSON_PATH) {
+      CompletableFuture<HttpResponse<String>> pokemonResponse =
+          abstractHttpClient.getResponse(
+              pokemonUpstreamHttpClient, request, HttpResponse.BodyHandlers.ofString());
+      return AbstractHttpClient.propagateCancellation(
+          pokemonResponse.thenApply(
+              response -> {
+                checkStatusCode(response.statusCode(), response::body);
+                return pokemonSpeciesParser.parse(response.body());
+              }),
+          pokemonResponse);
+    }
+    CompletableFuture<HttpResponse<byte[]>> pokemonResponse =
+        abstractHttpClient.getResponse(
+            pokemonUpstreamHttpClient, request, HttpResponse.BodyHandlers.ofByteArray());
+    return AbstractHttpClient.propagateCancellation(
+        pokemonResponse.thenApply(
+            response -> {
+              checkStatusCode(
+                  response.statusCode(), () -> new String(response.body(), StandardCharsets.UTF_8));
+              return pokemonSpeciesParser.parse(new ByteArrayInputStream(response.body()));
+            }),
+        pokemonResponse);
+  }
+
+  private void checkStatusCode(int statusCode, Supplier<String> responseBody) {
+    if (statusCode != HttpStatus.OK.value()) {
+      throw new UpstreamResponseException(Upstream.POKEMON, statusCode, responseBody.get());
+    }
   }
 }
@@ -0,0 +1,157 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Direct mapped table of immutable entries, so a hit is a plain array read. Names are counted in a
+ * racy, periodically halved sketch on misses only, and admitted when at least as hot as the victim.
+ */
+public class PokemonNearCache {
+  private static final int SKETCH_COUNTERS_PER_ENTRY = 4;
+  private static final int SKETCH_RESET_FACTOR = 10;
+
+  private final Entry[] entries;
+  private final int[] frequencies;
+  private final long timeToLiveNanos;
+  private final int minFrequency;
+  private final int sampleSize;
+  private final Ticker ticker;
+  private int sampleCount;
+
+  private PokemonNearCache(int size, Duration timeToLive, int minFrequency, Ticker ticker) {
+    int capacity = Integer.highestOneBit(Math.max(1, size - 1) << 1);
+    this.entries = new Entry[capacity];
+    this.frequencies = new int[capacity * SKETCH_COUNTERS_PER_ENTRY];
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.minFrequency = minFrequency;
+    this.sampleSize = capacity * SKETCH_RESET_FACTOR;
+    this.ticker = ticker;
+  }
+
+  public static PokemonNearCache of(
+      int size, Duration timeToLive, int minFrequency, Ticker ticker) {
+    return size > 0 && !timeToLive.isZero()
+        ? new PokemonNearCache(size, timeToLive, minFrequency, ticker)
+        : disabled();
+  }
+
+  public static PokemonNearCache disabled() {
+    return new PokemonNearCache(1, Duration.ZERO, Integer.MAX_VALUE, Ticker.disabledTicker());
+  }
+
+  public boolean isEnabled() {
+    return timeToLiveNanos > 0;
+  }
+
+  public CompletableFuture<PokemonSpecies> get(String name) {
+    Entry entry = getEntry(name);
+    return entry != null ? entry.pokemonSpecies : null;
+  }
+
+  public CachedValue<PokemonSpecies> getCachedValue(String name) {
+    Entry entry = getEntry(name);
+    return entry != null
+        ? new CachedValue<>(
+            entry.pokemonSpecies.join(), Duration.ofNanos(entry.freshUntilNanos - ticker.read()))
+        : null;
+  }
+
+  public boolean recordMiss(String name) {
+    if (!isEnabled()) {
+      return false;
+    }
+    int hash = spread(name.hashCode());
+    int firstIndex = hash & (frequencies.length - 1);
+    int secondIndex = (hash >>> 16 | hash << 16) & (frequencies.length - 1);
+    int frequency = Math.min(++frequencies[firstIndex], ++frequencies[secondIndex]);
+    if (++sampleCount >= sampleSize) {
+      age();
+    }
+    return frequency >= minFrequency;
+  }
+
+  public void put(String name, CachedValue<PokemonSpecies> cachedPokemonSpecies) {
+    if (!isEnabled() || cachedPokemonSpecies.getTimeToLive().isZero()) {
+      return;
+    }
+    long now = ticker.read();
+    int index = spread(name.hashCode()) & (entries.length - 1);
+    Entry entry = entries[index];
+    if (entry != null
+        && !entry.name.equals(name)
+        && entry.expiresAtNanos - now > 0
+        && getFrequency(entry.name) > getFrequency(name)) {
+      return;
+    }
+    long freshUntilNanos = now + cachedPokemonSpecies.getTimeToLive().toNanos();
+    entries[index] =
+        new Entry(
+            name,
+            CompletableFuture.completedFuture(cachedPokemonSpecies.getValue()),
+            Math.min(now + timeToLiveNanos, freshUntilNanos),
+            freshUntilNanos);
+  }
+
+  public void invalidate(String name) {
+    int index = spread(name.hashCode()) & (entries.length - 1);
+    Entry entry = entries[index];
+    if (entry != null && entry.name.equals(name)) {
+      entries[index] = null;
+    }
+  }
+
+  public void invalidateAll() {
+    Arrays.fill(entries, null);
+    Arrays.fill(frequencies, 0);
+  }
+
+  private Entry getEntry(String name) {
+    Entry entry = entries[spread(name.hashCode()) & (entries.length - 1)];
+    return entry != null && entry.name.equals(name) && entry.expiresAtNanos - ticker.read() > 0
+        ? entry
+        : null;
+  }
+
+  private int getFrequency(String name) {
+    int hash = spread(name.hashCode());
+    return Math.min(
+        frequencies[hash & (frequencies.length - 1)],
+        frequencies[(hash >>> 16 | hash << 16) & (frequencies.length - 1)]);
+  }
+
+  private void age() {
+    sampleCount = 0;
+    for (int i = 0; i < frequencies.length; i++) {
+      frequencies[i] >>>= 1;
+    }
+  }
+
+  private static int spread(int hash) {
+    hash *= 0x9e3779b9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private static class Entry {
+    private final String name;
+    private final CompletableFuture<PokemonSpecies> pokemonSpecies;
+    private final long expiresAtNanos;
+    private final long freshUntilNanos;
+
+    private Entry(
+        String name,
+        CompletableFuture<PokemonSpecies> pokemonSpecies,
+        long expiresAtNanos,
+        long freshUntilNanos) {
+      this.name = name;
+      this.pokemonSpecies = pokemonSpecies;
+      this.expiresAtNanos = expiresAtNanos;
+      this.freshUntilNanos = freshUntilNanos;
+    }
+  }
+}
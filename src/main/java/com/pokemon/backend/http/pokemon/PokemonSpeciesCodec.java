@@ -0,0 +1,112 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.pokemon.backend.cache.SharedCacheCodec;
+import com.pokemon.backend.model.language.Language;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Record: name, id, habitat, legendary flag, description count, then code and text of each
+ * description. Strings are length-prefixed UTF-8, with a length of -1 for {@code null}.
+ */
+public class PokemonSpeciesCodec implements SharedCacheCodec<PokemonSpecies> {
+  private static final int VERSION = 3;
+
+  @Override
+  public byte[] encode(PokemonSpecies pokemonSpecies) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    try {
+      output.writeByte(VERSION);
+      writeRecord(output, pokemonSpecies);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public PokemonSpecies decode(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    if (buffer.get() != VERSION) {
+      throw new IllegalArgumentException("Unsupported pokemon species encoding version");
+    }
+    return readRecord(buffer);
+  }
+
+  static void writeRecord(DataOutputStream output, PokemonSpecies pokemonSpecies)
+      throws IOException {
+    writeString(output, pokemonSpecies.getName());
+    output.writeInt(pokemonSpecies.getId() != null ? pokemonSpecies.getId() : -1);
+    writeString(output, pokemonSpecies.getHabitat());
+    output.writeByte(
+        pokemonSpecies.getIsLegendary() == null ? -1 : pokemonSpecies.getIsLegendary() ? 1 : 0);
+    int descriptionCount = 0;
+    for (Language language : Language.values()) {
+      if (pokemonSpecies.getDescription(language) != null) {
+        descriptionCount++;
+      }
+    }
+    output.writeByte(descriptionCount);
+    for (Language language : Language.values()) {
+      String description = pokemonSpecies.getDescription(language);
+      if (description != null) {
+        writeString(output, language.code);
+        writeString(output, description);
+      }
+    }
+  }
+
+  static PokemonSpecies readRecord(ByteBuffer buffer) {
+    try {
+      PokemonSpecies.PokemonSpeciesBuilder pokemonSpecies =
+          PokemonSpecies.builder().name(readString(buffer));
+      int id = buffer.getInt();
+      pokemonSpecies.id(id < 0 ? null : id).habitat(readString(buffer));
+      byte legendary = buffer.get();
+      pokemonSpecies.isLegendary(legendary < 0 ? null : legendary == 1);
+      String[] descriptions = new String[Language.values().length];
+      int descriptionCount = buffer.get();
+      for (int i = 0; i < descriptionCount; i++) {
+        Language language = Language.of(readString(buffer));
+        String description = readString(buffer);
+        if (language != null) {
+          descriptions[language.ordinal()] = description;
+        }
+      }
+      return pokemonSpecies.descriptions(descriptions).build();
+    } catch (BufferUnderflowException exception) {
+      throw new IllegalArgumentException("Truncated pokemon species record", exception);
+    }
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    if (value == null) {
+      output.writeShort(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Value too long for pokemon species record");
+    }
+    output.writeShort(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getShort();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,70 @@
+package com.pokemon.backend.http.pokemon;
+
+import java.util.Collection;
+
+public class PokemonSpeciesNameFilter {
+  private final long[] bits;
+  private final int bitCount;
+  private final int hashCount;
+
+  private PokemonSpeciesNameFilter(int bitCount, int hashCount) {
+    this.bits = new long[(bitCount + Long.SIZE - 1) / Long.SIZE];
+    this.bitCount = bitCount;
+    this.hashCount = hashCount;
+  }
+
+  public static PokemonSpeciesNameFilter of(
+      Collection<String> names, double falsePositiveProbability) {
+    int nameCount = Math.max(1, names.size());
+    int bitCount =
+        (int)
+            Math.max(
+                Long.SIZE,
+                Math.ceil(
+                    -nameCount * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+    int hashCount = (int) Math.max(1, Math.round((double) bitCount / nameCount * Math.log(2)));
+    PokemonSpeciesNameFilter pokemonSpeciesNameFilter =
+        new PokemonSpeciesNameFilter(bitCount, hashCount);
+    names.forEach(pokemonSpeciesNameFilter::add);
+    return pokemonSpeciesNameFilter;
+  }
+
+  public boolean mightContain(String name) {
+    long hash = hash(name);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++) {
+      int index = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((bits[index / Long.SIZE] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public int getBitCount() {
+    return bitCount;
+  }
+
+  private void add(String name) {
+    long hash = hash(name);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++) {
+      int index = Math.floorMod(hash1 + i * hash2, bitCount);
+      bits[index / Long.SIZE] |= 1L << index;
+    }
+  }
+
+  private static long hash(String name) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < name.length(); i++) {
+      hash ^= name.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
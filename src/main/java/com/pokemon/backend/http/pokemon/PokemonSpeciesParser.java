@@ -0,0 +1,160 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.model.language.Language;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PokemonSpeciesParser {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final JsonPath ID_PATH = JsonPath.compile("$['id']");
+  private static final JsonPath NAME_PATH = JsonPath.compile("$['name']");
+  private static final JsonPath HABITAT_PATH = JsonPath.compile("$['habitat']['name']");
+  private static final JsonPath IS_LEGENDARY_PATH = JsonPath.compile("$['is_legendary']");
+  private static final JsonPath FLAVOR_TEXT_ENTRIES_PATH =
+      JsonPath.compile("$['flavor_text_entries']");
+
+  @Autowired private JsonPathConfig jsonPathConfig;
+
+  public PokemonSpecies parse(String pokemonResponseBody) {
+    DocumentContext pokemonContext =
+        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(pokemonResponseBody);
+    return PokemonSpecies.builder()
+        .id(pokemonContext.read(ID_PATH))
+        .name(pokemonContext.read(NAME_PATH))
+        .habitat(pokemonContext.read(HABITAT_PATH))
+        .isLegendary(pokemonContext.read(IS_LEGENDARY_PATH))
+        .descriptions(getDescriptionsByLanguage(pokemonContext))
+        .build();
+  }
+
+  public PokemonSpecies parse(InputStream pokemonResponseBody) {
+    PokemonSpecies.PokemonSpeciesBuilder pokemonSpecies = PokemonSpecies.builder();
+    try (JsonParser parser = JSON_FACTORY.createParser(pokemonResponseBody)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return pokemonSpecies.build();
+      }
+      int remainingFieldCount = 5;
+      while (remainingFieldCount > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken valueToken = parser.nextToken();
+        switch (fieldName) {
+          case "id":
+            pokemonSpecies.id(
+                valueToken == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : null);
+            remainingFieldCount--;
+            break;
+          case "name":
+            pokemonSpecies.name(parser.getValueAsString());
+            remainingFieldCount--;
+            break;
+          case "habitat":
+            pokemonSpecies.habitat(readName(parser));
+            remainingFieldCount--;
+            break;
+          case "is_legendary":
+            pokemonSpecies.isLegendary(valueToken.isBoolean() ? parser.getBooleanValue() : null);
+            remainingFieldCount--;
+            break;
+          case "flavor_text_entries":
+            pokemonSpecies.descriptions(readDescriptions(parser));
+            remainingFieldCount--;
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    return pokemonSpecies.build();
+  }
+
+  String[] getDescriptionsByLanguage(DocumentContext pokemonContext) {
+    String[] descriptions = new String[Language.values().length];
+    List<Map<String, Object>> flavorTextEntries = pokemonContext.read(FLAVOR_TEXT_ENTRIES_PATH);
+    if (flavorTextEntries == null) {
+      return descriptions;
+    }
+    for (Map<String, Object> flavorTextEntry : flavorTextEntries) {
+      Object flavorText = flavorTextEntry.get("flavor_text");
+      Object flavorTextLanguage = flavorTextEntry.get("language");
+      if (flavorText instanceof String && flavorTextLanguage instanceof Map) {
+        Object languageName = ((Map<?, ?>) flavorTextLanguage).get("name");
+        Language language =
+            languageName instanceof String ? Language.of((String) languageName) : null;
+        if (language != null && descriptions[language.ordinal()] == null) {
+          descriptions[language.ordinal()] = formatDescription((String) flavorText);
+        }
+      }
+    }
+    return descriptions;
+  }
+
+  String formatDescription(String description) {
+    return description != null ? description.replaceAll("[\n\f]", " ") : null;
+  }
+
+  private String readName(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    String name = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if (fieldName.equals("name")) {
+        name = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return name;
+  }
+
+  private String[] readDescriptions(JsonParser parser) throws IOException {
+    String[] descriptions = new String[Language.values().length];
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return descriptions;
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      String flavorText = null;
+      String flavorTextLanguage = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        parser.nextToken();
+        if (fieldName.equals("flavor_text")) {
+          flavorText = parser.getValueAsString();
+        } else if (fieldName.equals("language")) {
+          flavorTextLanguage = readName(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      Language language = Language.of(flavorTextLanguage);
+      if (language != null && flavorText != null && descriptions[language.ordinal()] == null) {
+        descriptions[language.ordinal()] = formatDescription(flavorText);
+      }
+    }
+    return descriptions;
+  }
+}
@@ -0,0 +1,6 @@
+package com.pokemon.backend.http.pokemon;
+
+public enum PokemonSpeciesParserMode {
+  JSON_PATH,
+  STREAMING
+}
@@ -0,0 +1,179 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Layout: a header of magic, version, species count and id count, then record offsets sorted by
+ * name bytes, then id and offset pairs sorted by id, then the {@link PokemonSpeciesCodec} records.
+ */
+@Log4j2
+public class PokemonSpeciesSnapshot {
+  private static final int MAGIC = 0x504B5353;
+  private static final int VERSION = 3;
+  private static final int HEADER_LENGTH = 4 * Integer.BYTES;
+  private static final Comparator<byte[]> NAME_COMPARATOR = Arrays::compareUnsigned;
+
+  private final ByteBuffer buffer;
+  private final int size;
+  private final int idCount;
+
+  private PokemonSpeciesSnapshot(ByteBuffer buffer, int size, int idCount) {
+    this.buffer = buffer;
+    this.size = size;
+    this.idCount = idCount;
+  }
+
+  public static PokemonSpeciesSnapshot open(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.limit() < HEADER_LENGTH
+          || buffer.getInt(0) != MAGIC
+          || buffer.getInt(Integer.BYTES) != VERSION) {
+        throw new IllegalStateException("Invalid pokemon species snapshot: " + path);
+      }
+      int size = buffer.getInt(2 * Integer.BYTES);
+      int idCount = buffer.getInt(3 * Integer.BYTES);
+      log.info(
+          "Opened pokemon species snapshot: {} with {} species in {} bytes",
+          path,
+          size,
+          buffer.limit());
+      return new PokemonSpeciesSnapshot(buffer, size, idCount);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  public static PokemonSpeciesSnapshot disabled() {
+    return new PokemonSpeciesSnapshot(null, 0, 0);
+  }
+
+  public static void write(Path path, Collection<PokemonSpecies> pokemonSpecies)
+      throws IOException {
+    List<PokemonSpecies> sortedPokemonSpecies =
+        pokemonSpecies.stream()
+            .sorted(Comparator.comparing(species -> encode(species.getName()), NAME_COMPARATOR))
+            .collect(Collectors.toList());
+    ByteArrayOutputStream records = new ByteArrayOutputStream();
+    DataOutputStream recordsOutput = new DataOutputStream(records);
+    List<Integer> idIndexes =
+        IntStream.range(0, sortedPokemonSpecies.size())
+            .filter(i -> sortedPokemonSpecies.get(i).getId() != null)
+            .boxed()
+            .sorted(Comparator.comparing(i -> sortedPokemonSpecies.get(i).getId()))
+            .collect(Collectors.toList());
+    int[] offsets = new int[sortedPokemonSpecies.size()];
+    int recordsOffset =
+        HEADER_LENGTH + offsets.length * Integer.BYTES + idIndexes.size() * 2 * Integer.BYTES;
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = recordsOffset + records.size();
+      PokemonSpeciesCodec.writeRecord(recordsOutput, sortedPokemonSpecies.get(i));
+    }
+    Path parent = path.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path temporaryPath = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryPath)))) {
+      output.writeInt(MAGIC);
+      output.writeInt(VERSION);
+      output.writeInt(offsets.length);
+      output.writeInt(idIndexes.size());
+      for (int offset : offsets) {
+        output.writeInt(offset);
+      }
+      for (int index : idIndexes) {
+        output.writeInt(sortedPokemonSpecies.get(index).getId());
+        output.writeInt(offsets[index]);
+      }
+      records.writeTo(output);
+    }
+    Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  public boolean isEnabled() {
+    return buffer != null;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public PokemonSpecies get(String name) {
+    if (!isEnabled() || name == null) {
+      return null;
+    }
+    byte[] key = encode(name);
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int offset = buffer.getInt(HEADER_LENGTH + middle * Integer.BYTES);
+      int comparison = compareName(offset, key);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return PokemonSpeciesCodec.readRecord(buffer.duplicate().position(offset));
+      }
+    }
+    return null;
+  }
+
+  public PokemonSpecies getById(int id) {
+    int idTableOffset = HEADER_LENGTH + size * Integer.BYTES;
+    int low = 0;
+    int high = idCount - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int entryOffset = idTableOffset + middle * 2 * Integer.BYTES;
+      int comparison = Integer.compare(buffer.getInt(entryOffset), id);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return PokemonSpeciesCodec.readRecord(
+            buffer.duplicate().position(buffer.getInt(entryOffset + Integer.BYTES)));
+      }
+    }
+    return null;
+  }
+
+  private int compareName(int offset, byte[] key) {
+    int length = buffer.getShort(offset);
+    int start = offset + Short.BYTES;
+    int commonLength = Math.min(length, key.length);
+    for (int i = 0; i < commonLength; i++) {
+      int comparison = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return Integer.compare(length, key.length);
+  }
+
+  private static byte[] encode(String value) {
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+}
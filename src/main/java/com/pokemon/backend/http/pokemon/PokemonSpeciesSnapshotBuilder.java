@@ -0,0 +1,130 @@
+package com.pokemon.backend.http.pokemon;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Log4j2
+public class PokemonSpeciesSnapshotBuilder {
+  private static final String POKEMON_SPECIES_URL_PATH = "/api/v2/pokemon-species/";
+  private static final int POKEMON_SERVER_PARALLELISM = 8;
+
+  private final PokemonSpeciesParser pokemonSpeciesParser = new PokemonSpeciesParser();
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 2) {
+      throw new IllegalArgumentException(
+          "Usage: PokemonSpeciesSnapshotBuilder <directory or pokemon server url> <snapshot file>");
+    }
+    PokemonSpeciesSnapshotBuilder builder = new PokemonSpeciesSnapshotBuilder();
+    Collection<PokemonSpecies> pokemonSpecies =
+        args[0].startsWith("http://") || args[0].startsWith("https://")
+            ? builder.readFromPokemonServer(args[0])
+            : builder.readFromDirectory(Path.of(args[0]));
+    PokemonSpeciesSnapshot.write(Path.of(args[1]), pokemonSpecies);
+    log.info("Wrote {} species to pokemon species snapshot: {}", pokemonSpecies.size(), args[1]);
+  }
+
+  public Collection<PokemonSpecies> readFromDirectory(Path directory) throws IOException {
+    List<Path> paths;
+    try (Stream<Path> directoryPaths = Files.list(directory)) {
+      paths =
+          directoryPaths
+              .filter(path -> path.getFileName().toString().endsWith(".json"))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    Map<String, PokemonSpecies> pokemonSpeciesByName = new LinkedHashMap<>();
+    for (Path path : paths) {
+      try (InputStream input = Files.newInputStream(path)) {
+        addPokemonSpecies(pokemonSpeciesByName, pokemonSpeciesParser.parse(input), path);
+      }
+    }
+    return pokemonSpeciesByName.values();
+  }
+
+  public Collection<PokemonSpecies> readFromPokemonServer(String pokemonBaseUrl)
+      throws IOException, InterruptedException, ExecutionException {
+    ExecutorService executorService = Executors.newFixedThreadPool(POKEMON_SERVER_PARALLELISM);
+    HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    try {
+      JsonNode pokemonSpeciesList =
+          new ObjectMapper()
+              .readTree(
+                  get(httpClient, pokemonBaseUrl + POKEMON_SPECIES_URL_PATH + "?limit=100000"));
+      List<Future<PokemonSpecies>> pokemonSpecies = new ArrayList<>();
+      for (JsonNode result : pokemonSpeciesList.path("results")) {
+        String name = result.path("name").asText();
+        pokemonSpecies.add(
+            executorService.submit(
+                () ->
+                    pokemonSpeciesParser.parse(
+                        new ByteArrayInputStream(
+                            get(httpClient, pokemonBaseUrl + POKEMON_SPECIES_URL_PATH + name)))));
+      }
+      log.info(
+          "Fetching {} species from pokemon server: {}", pokemonSpecies.size(), pokemonBaseUrl);
+      Map<String, PokemonSpecies> pokemonSpeciesByName = new LinkedHashMap<>();
+      for (Future<PokemonSpecies> species : pokemonSpecies) {
+        addPokemonSpecies(pokemonSpeciesByName, species.get(), pokemonBaseUrl);
+      }
+      return pokemonSpeciesByName.values();
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  private static byte[] get(HttpClient httpClient, String url) {
+    try {
+      HttpResponse<byte[]> response =
+          httpClient.send(
+              HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build(),
+              HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException(
+            "Pokemon server responded with status code: " + response.statusCode() + " to: " + url);
+      }
+      return response.body();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private static void addPokemonSpecies(
+      Map<String, PokemonSpecies> pokemonSpeciesByName,
+      PokemonSpecies pokemonSpecies,
+      Object source) {
+    if (pokemonSpecies.getName() == null) {
+      log.info("Skipping species without name from: {}", source);
+      return;
+    }
+    pokemonSpeciesByName.putIfAbsent(pokemonSpecies.getName(), pokemonSpecies);
+  }
+}
@@ -0,0 +1,109 @@
+package com.pokemon.backend.http.translation;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+@Log4j2
+public class TranslationBatcher {
+  private final Duration window;
+  private final int maxSize;
+  private final Map<String, List<PendingTranslation>> pendingTranslationsByUrlPath =
+      new HashMap<>();
+
+  public TranslationBatcher(Duration window, int maxSize) {
+    this.window = window;
+    this.maxSize = maxSize;
+  }
+
+  public boolean isEnabled() {
+    return !window.isZero() && maxSize > 1;
+  }
+
+  public CompletableFuture<String> translate(
+      String translationUrlPath,
+      String text,
+      BiFunction<String, List<String>, CompletableFuture<List<String>>> sender) {
+    PendingTranslation pendingTranslation = new PendingTranslation(text);
+    if (!isEnabled()) {
+      send(translationUrlPath, List.of(pendingTranslation), sender);
+      return pendingTranslation.translatedText;
+    }
+    List<PendingTranslation> batch;
+    synchronized (this) {
+      List<PendingTranslation> pendingTranslations =
+          pendingTranslationsByUrlPath.computeIfAbsent(
+              translationUrlPath, key -> newBatch(key, sender));
+      pendingTranslations.add(pendingTranslation);
+      if (pendingTranslations.size() < maxSize) {
+        return pendingTranslation.translatedText;
+      }
+      batch = pendingTranslationsByUrlPath.remove(translationUrlPath);
+    }
+    send(translationUrlPath, batch, sender);
+    return pendingTranslation.translatedText;
+  }
+
+  private List<PendingTranslation> newBatch(
+      String translationUrlPath,
+      BiFunction<String, List<String>, CompletableFuture<List<String>>> sender) {
+    List<PendingTranslation> batch = new ArrayList<>();
+    CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+        .execute(
+            () -> {
+              synchronized (this) {
+                if (!pendingTranslationsByUrlPath.remove(translationUrlPath, batch)) {
+                  return;
+                }
+              }
+              send(translationUrlPath, batch, sender);
+            });
+    return batch;
+  }
+
+  private void send(
+      String translationUrlPath,
+      List<PendingTranslation> batch,
+      BiFunction<String, List<String>, CompletableFuture<List<String>>> sender) {
+    log.info(
+        "Sending batch of {} texts to translation url path: {}", batch.size(), translationUrlPath);
+    CompletableFuture<List<String>> translatedTexts;
+    try {
+      translatedTexts =
+          sender.apply(
+              translationUrlPath,
+              batch.stream()
+                  .map(pendingTranslation -> pendingTranslation.text)
+                  .collect(Collectors.toList()));
+    } catch (RuntimeException exception) {
+      translatedTexts = CompletableFuture.failedFuture(exception);
+    }
+    translatedTexts.whenComplete(
+        (texts, exception) -> {
+          for (int i = 0; i < batch.size(); i++) {
+            if (exception != null) {
+              batch.get(i).translatedText.completeExceptionally(exception);
+            } else {
+              batch.get(i).translatedText.complete(texts.get(i));
+            }
+          }
+        });
+  }
+
+  private static class PendingTranslation {
+    private final String text;
+    private final CompletableFuture<String> translatedText = new CompletableFuture<>();
+
+    private PendingTranslation(String text) {
+      this.text = text;
+    }
+  }
+}
@@ -1,42 +1,168 @@
 package com.pokemon.backend.http.translation;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.jayway.jsonpath.JsonPath;
+import com.pokemon.backend.cache.SharedCacheTier;
+import com.pokemon.backend.config.JsonPathConfig;
 import com.pokemon.backend.http.AbstractHttpClient;
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.http.Deadline;
+import com.pokemon.backend.http.Upstream;
+import com.pokemon.backend.http.UpstreamCircuitBreaker;
+import com.pokemon.backend.http.UpstreamHttpClient;
+import com.pokemon.backend.http.UpstreamResponseException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.concurrent.ExecutionException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import static com.pokemon.backend.config.CacheConfig.TRANSLATION_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.TRANSLATION_SHARED_CACHE_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.TRANSLATION_BATCHER_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.TRANSLATION_CIRCUIT_BREAKER_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME;
 
 @Service
 public class TranslationHttpClient {
+  private static final String BATCH_DELIMITER = "|";
+  private static final Pattern BATCH_DELIMITER_PATTERN = Pattern.compile("\\s*\\|\\s*");
+
   @Value("${app.base.url.translation}")
   private String translationBaseUrl;
 
   @Autowired private AbstractHttpClient abstractHttpClient;
 
-  @Cacheable(
-      cacheNames = TRANSLATION_CACHE_NAME,
-      key = "#translationUrlPath.concat('-').concat(#text)",
-      unless = "#result.statusCode() != 200")
-  public HttpResponse<String> getTranslatedText(String translationUrlPath, String text)
-      throws URISyntaxException, ExecutionException, InterruptedException {
+  @Autowired
+  @Qualifier(TRANSLATION_CACHE_NAME)
+  private AsyncLoadingCache<TranslationKey, String> translationCache;
+
+  @Autowired private TranslationStore translationStore;
+
+  @Autowired
+  @Qualifier(TRANSLATION_SHARED_CACHE_NAME)
+  private SharedCacheTier<TranslationKey, String> translationSharedCache;
+
+  @Autowired private JsonPathConfig jsonPathConfig;
+
+  @Autowired
+  @Qualifier(TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME)
+  private UpstreamHttpClient translationUpstreamHttpClient;
+
+  @Autowired
+  @Qualifier(TRANSLATION_CIRCUIT_BREAKER_NAME)
+  private UpstreamCircuitBreaker translationCircuitBreaker;
+
+  @Autowired
+  @Qualifier(TRANSLATION_BATCHER_NAME)
+  private TranslationBatcher translationBatcher;
+
+  public CompletableFuture<String> getTranslatedText(String translationUrlPath, String text) {
+    return translationCache.get(new TranslationKey(translationUrlPath, text));
+  }
+
+  public CompletableFuture<String> getTranslatedText(
+      String translationUrlPath, String text, Deadline deadline) {
+    return deadline.bound(
+        getTranslatedText(translationUrlPath, text),
+        "translate text from translation url path: " + translationUrlPath);
+  }
+
+  public CachedValue<String> getCachedTranslatedText(String translationUrlPath, String text) {
+    return CachedValue.get(translationCache, new TranslationKey(translationUrlPath, text));
+  }
+
+  public CompletableFuture<String> fetchTranslatedText(TranslationKey translationKey) {
+    return translationStore
+        .get(translationKey)
+        .thenCompose(
+            storedTranslatedText ->
+                storedTranslatedText != null
+                    ? CompletableFuture.completedFuture(storedTranslatedText)
+                    : translationSharedCache
+                        .get(translationKey)
+                        .thenCompose(
+                            sharedTranslatedText ->
+                                sharedTranslatedText != null
+                                    ? CompletableFuture.completedFuture(sharedTranslatedText)
+                                    : fetchTranslatedTextFromUpstream(translationKey)));
+  }
+
+  private CompletableFuture<String> fetchTranslatedTextFromUpstream(TranslationKey translationKey) {
+    CompletableFuture<String> translatedText =
+        translationBatcher.isEnabled() && !translationKey.getText().contains(BATCH_DELIMITER)
+            ? translationBatcher.translate(
+                translationKey.getTranslationUrlPath(),
+                translationKey.getText(),
+                this::translateBatch)
+            : translate(translationKey.getTranslationUrlPath(), translationKey.getText());
+    return translatedText.thenApply(
+        text -> {
+          translationStore.put(translationKey, text);
+          translationSharedCache.put(translationKey, text);
+          return text;
+        });
+  }
+
+  private CompletableFuture<List<String>> translateBatch(
+      String translationUrlPath, List<String> texts) {
+    if (texts.size() == 1) {
+      return translate(translationUrlPath, texts.get(0)).thenApply(Collections::singletonList);
+    }
+    return translate(translationUrlPath, String.join(" " + BATCH_DELIMITER + " ", texts))
+        .thenApply(
+            translatedText -> {
+              List<String> translatedTexts =
+                  translatedText != null
+                      ? Arrays.asList(BATCH_DELIMITER_PATTERN.split(translatedText.trim(), -1))
+                      : List.of();
+              if (translatedTexts.size() != texts.size()) {
+                throw new IllegalStateException(
+                    "Batch translated text: "
+                        + translatedText
+                        + " could not be split into "
+                        + texts.size()
+                        + " texts");
+              }
+              return translatedTexts;
+            });
+  }
+
+  private CompletableFuture<String> translate(String translationUrlPath, String text) {
     HttpRequest request =
-        HttpRequest.newBuilder()
-            .uri(new URI(translationBaseUrl + translationUrlPath))
-            .version(HttpClient.Version.HTTP_2)
+        translationUpstreamHttpClient
+            .newRequestBuilder(URI.create(translationBaseUrl + translationUrlPath))
             .POST(HttpRequest.BodyPublishers.ofString("text=" + text))
             .headers(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
             .build();
-    return abstractHttpClient.getResponse(request);
+    return translationCircuitBreaker.execute(
+        () ->
+            abstractHttpClient
+                .getResponse(translationUpstreamHttpClient, request)
+                .thenApply(
+                    translationResponse -> {
+                      if (translationResponse.statusCode() != HttpStatus.OK.value()) {
+                        throw new UpstreamResponseException(
+                            Upstream.TRANSLATION,
+                            translationResponse.statusCode(),
+                            translationResponse.body(),
+                            UpstreamCircuitBreaker.getRetryAfter(translationResponse));
+                      }
+                      String translatedText =
+                          JsonPath.using(jsonPathConfig.getJsonPathConfig())
+                              .parse(translationResponse.body())
+                              .read("$['contents']['translated']");
+                      return translatedText;
+                    }));
   }
 }
@@ -0,0 +1,9 @@
+package com.pokemon.backend.http.translation;
+
+import lombok.Value;
+
+@Value
+public class TranslationKey {
+  String translationUrlPath;
+  String text;
+}
@@ -0,0 +1,165 @@
+package com.pokemon.backend.http.translation;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only log of length-prefixed frames, replayed in the background on open. Replay truncates
+ * the log at the first frame that cannot be read, such as one cut short by a crash.
+ */
+@Log4j2
+public class TranslationStore implements AutoCloseable {
+  private final Path path;
+  private final Map<TranslationKey, String> translations = new ConcurrentHashMap<>();
+  private final CompletableFuture<Void> loaded;
+  private DataOutputStream output;
+
+  private TranslationStore(Path path) {
+    this.path = path;
+    this.loaded =
+        path != null
+            ? CompletableFuture.runAsync(this::load)
+            : CompletableFuture.completedFuture(null);
+  }
+
+  public static TranslationStore open(Path path) {
+    return new TranslationStore(path);
+  }
+
+  public static TranslationStore disabled() {
+    return new TranslationStore(null);
+  }
+
+  public boolean isEnabled() {
+    return path != null;
+  }
+
+  public CompletableFuture<Void> loaded() {
+    return loaded;
+  }
+
+  public CompletableFuture<String> get(TranslationKey translationKey) {
+    return loaded.thenApply(ignored -> translations.get(translationKey));
+  }
+
+  public CompletableFuture<Void> put(TranslationKey translationKey, String translatedText) {
+    if (!isEnabled() || translatedText == null || translatedText.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return loaded.thenRun(
+        () -> {
+          if (translations.putIfAbsent(translationKey, translatedText) == null) {
+            append(translationKey, translatedText);
+          }
+        });
+  }
+
+  public int size() {
+    return translations.size();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (output != null) {
+      output.close();
+      output = null;
+    }
+    if (isEnabled()) {
+      log.info("Closed translation store: {} with {} translations", path, translations.size());
+    }
+  }
+
+  private void load() {
+    long startTime = System.nanoTime();
+    long validLength = 0;
+    if (Files.exists(path)) {
+      try (DataInputStream input =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+        long length = Files.size(path);
+        while (length - validLength >= Integer.BYTES) {
+          int recordLength = input.readInt();
+          if (recordLength < 0 || recordLength > length - validLength - Integer.BYTES) {
+            log.warn(
+                "Found invalid record length: {} in translation store: {} past {} bytes",
+                recordLength,
+                path,
+                validLength);
+            break;
+          }
+          byte[] record = new byte[recordLength];
+          input.readFully(record);
+          DataInputStream recordInput = new DataInputStream(new ByteArrayInputStream(record));
+          translations.put(
+              new TranslationKey(recordInput.readUTF(), recordInput.readUTF()),
+              recordInput.readUTF());
+          validLength += Integer.BYTES + recordLength;
+        }
+      } catch (IOException | RuntimeException exception) {
+        log.warn(
+            "Failed to load translation store: {} past {} bytes due to: {}",
+            path,
+            validLength,
+            exception.toString());
+      }
+      truncate(validLength);
+    }
+    log.info(
+        "Loaded {} translations from translation store: {} in {} ms",
+        translations.size(),
+        path,
+        (System.nanoTime() - startTime) / 1_000_000);
+  }
+
+  private void truncate(long validLength) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+      if (channel.size() > validLength) {
+        log.warn(
+            "Truncating translation store: {} to its {} bytes of valid records", path, validLength);
+        channel.truncate(validLength);
+      }
+    } catch (IOException exception) {
+      log.error("Failed to truncate translation store: " + path + " due to: ", exception);
+    }
+  }
+
+  private synchronized void append(TranslationKey translationKey, String translatedText) {
+    try {
+      ByteArrayOutputStream record = new ByteArrayOutputStream();
+      DataOutputStream recordOutput = new DataOutputStream(record);
+      recordOutput.writeUTF(translationKey.getTranslationUrlPath());
+      recordOutput.writeUTF(translationKey.getText());
+      recordOutput.writeUTF(translatedText);
+      if (output == null) {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        output =
+            new DataOutputStream(
+                new BufferedOutputStream(
+                    Files.newOutputStream(
+                        path, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+      }
+      output.writeInt(record.size());
+      record.writeTo(output);
+      output.flush();
+    } catch (UTFDataFormatException exception) {
+      log.warn("Skipped persisting translation too long for translation store: {}", path);
+    } catch (IOException exception) {
+      log.error(
+          "Failed to persist translation to translation store: " + path + " due to: ", exception);
+    }
+  }
+}
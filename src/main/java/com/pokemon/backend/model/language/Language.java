@@ -1,11 +1,70 @@
 package com.pokemon.backend.model.language;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 public enum Language {
-  EN("en");
+  EN("en"),
+  JA("ja"),
+  JA_HRKT("ja-Hrkt"),
+  ROOMAJI("roomaji"),
+  KO("ko"),
+  ZH_HANT("zh-Hant"),
+  ZH_HANS("zh-Hans"),
+  FR("fr"),
+  DE("de"),
+  ES("es"),
+  IT("it"),
+  CS("cs"),
+  PT_BR("pt-BR");
+
+  private static final Map<String, Language> LANGUAGES_BY_CODE =
+      Arrays.stream(values())
+          .collect(
+              Collectors.toUnmodifiableMap(
+                  language -> language.code.toLowerCase(Locale.ROOT), Function.identity()));
+  private static final List<String> CODES =
+      Arrays.stream(values()).map(language -> language.code).collect(Collectors.toList());
 
   public final String code;
 
   Language(String code) {
     this.code = code;
   }
+
+  public static Language of(String code) {
+    return code != null ? LANGUAGES_BY_CODE.get(code.trim().toLowerCase(Locale.ROOT)) : null;
+  }
+
+  public static List<Language> fromAcceptLanguage(String acceptLanguage) {
+    if (acceptLanguage == null || acceptLanguage.isBlank()) {
+      return List.of();
+    }
+    List<Locale.LanguageRange> languageRanges;
+    try {
+      languageRanges = Locale.LanguageRange.parse(acceptLanguage);
+    } catch (IllegalArgumentException exception) {
+      return List.of();
+    }
+    Set<Language> languages = new LinkedHashSet<>();
+    for (Locale.LanguageRange languageRange : languageRanges) {
+      if (languageRange.getWeight() == 0) {
+        continue;
+      }
+      List<String> codes = Locale.filterTags(List.of(languageRange), CODES);
+      if (codes.isEmpty()) {
+        String code = Locale.lookupTag(List.of(languageRange), CODES);
+        codes = code != null ? List.of(code) : List.of();
+      }
+      codes.forEach(code -> languages.add(of(code)));
+    }
+    return new ArrayList<>(languages);
+  }
 }
@@ -0,0 +1,6 @@
+package com.pokemon.backend.model.pokemon;
+
+public enum PokemonExportOrder {
+  INPUT,
+  COMPLETION
+}
@@ -0,0 +1,13 @@
+package com.pokemon.backend.model.pokemon;
+
+import lombok.Value;
+
+@Value
+public class PokemonResponse {
+  PokemonSpecies pokemonSpecies;
+  String description;
+  byte[] body;
+  byte[] gzippedBody;
+  String eTag;
+  String gzippedETag;
+}
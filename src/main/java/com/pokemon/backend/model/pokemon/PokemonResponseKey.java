@@ -0,0 +1,11 @@
+package com.pokemon.backend.model.pokemon;
+
+import com.pokemon.backend.model.language.Language;
+import lombok.Value;
+
+@Value
+public class PokemonResponseKey {
+  String name;
+  boolean translated;
+  Language language;
+}
@@ -0,0 +1,27 @@
+package com.pokemon.backend.model.pokemon;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PokemonResult {
+  @JsonProperty("name")
+  private String name;
+
+  @JsonProperty("status")
+  private Integer status;
+
+  @JsonProperty("pokemon")
+  private Pokemon pokemon;
+
+  @JsonProperty("error")
+  private String error;
+}
@@ -0,0 +1,53 @@
+package com.pokemon.backend.model.pokemon;
+
+import com.pokemon.backend.model.language.Language;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class PokemonSpecies {
+  Integer id;
+  String name;
+  String habitat;
+  Boolean isLegendary;
+
+  @Getter(AccessLevel.NONE)
+  String[] descriptions;
+
+  public String getDescription() {
+    return getDescription(Language.EN);
+  }
+
+  public String getDescription(Language language) {
+    return descriptions != null ? descriptions[language.ordinal()] : null;
+  }
+
+  public Language getDescriptionLanguage(List<Language> languages) {
+    for (Language language : languages) {
+      if (getDescription(language) != null) {
+        return language;
+      }
+    }
+    return Language.EN;
+  }
+
+  public static class PokemonSpeciesBuilder {
+
+    public PokemonSpeciesBuilder description(String description) {
+      return description(Language.EN, description);
+    }
+
+    public PokemonSpeciesBuilder description(Language language, String description) {
+      if (descriptions == null) {
+        descriptions = new String[Language.values().length];
+      }
+      descriptions[language.ordinal()] = description;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.pokemon.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pokemon.backend.model.pokemon.PokemonExportOrder;
+import com.pokemon.backend.model.pokemon.PokemonResult;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Service
+@Log4j2
+public class PokemonExportService {
+  private static final byte LINE_SEPARATOR = '\n';
+  private static final Pattern ID_RANGE_PATTERN =
+      Pattern.compile("([1-9]\\d{0,8})\\s*-\\s*(\\d{1,9})");
+
+  @Autowired private PokemonService pokemonService;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Value("${app.pokemon.export.max-size}")
+  private Integer exportMaxSize;
+
+  @Value("${app.pokemon.export.parallelism}")
+  private Integer exportParallelism;
+
+  public Stream<String> getExportPokemonNamesOrIds(List<String> pokemonNames, String pokemonIds) {
+    if ((pokemonNames == null) == (pokemonIds == null)) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Either pokemon names or a pokemon id range is required");
+    }
+    if (pokemonNames != null) {
+      List<String> distinctPokemonNames = pokemonService.getDistinctPokemonNames(pokemonNames);
+      validateExportSize(distinctPokemonNames.size());
+      return distinctPokemonNames.stream();
+    }
+    Matcher idRangeMatcher = ID_RANGE_PATTERN.matcher(pokemonIds.trim());
+    if (!idRangeMatcher.matches()) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Invalid pokemon id range: " + pokemonIds);
+    }
+    int firstId = Integer.parseInt(idRangeMatcher.group(1));
+    int lastId = Integer.parseInt(idRangeMatcher.group(2));
+    validateExportSize(lastId - firstId + 1);
+    return IntStream.rangeClosed(firstId, lastId).mapToObj(Integer::toString);
+  }
+
+  public void export(
+      Stream<String> pokemonNamesOrIds,
+      Boolean isTranslated,
+      PokemonExportOrder exportOrder,
+      OutputStream outputStream)
+      throws IOException {
+    log.info(
+        "Received request to export pokemons in {} order with translation feature enabled status: {}",
+        exportOrder,
+        isTranslated);
+    Iterator<String> pokemonNameOrIdIterator = pokemonNamesOrIds.iterator();
+    int exportedCount =
+        exportOrder == PokemonExportOrder.COMPLETION
+            ? exportInCompletionOrder(pokemonNameOrIdIterator, isTranslated, outputStream)
+            : exportInInputOrder(pokemonNameOrIdIterator, isTranslated, outputStream);
+    log.info("Exported {} pokemons", exportedCount);
+  }
+
+  private int exportInInputOrder(
+      Iterator<String> pokemonNamesOrIds, Boolean isTranslated, OutputStream outputStream)
+      throws IOException {
+    Queue<CompletableFuture<PokemonResult>> pokemonResults = new ArrayDeque<>();
+    int exportedCount = 0;
+    while (pokemonNamesOrIds.hasNext() || !pokemonResults.isEmpty()) {
+      while (pokemonResults.size() < exportParallelism && pokemonNamesOrIds.hasNext()) {
+        pokemonResults.add(pokemonService.getPokemonResult(pokemonNamesOrIds.next(), isTranslated));
+      }
+      write(pokemonResults.remove().join(), outputStream);
+      exportedCount++;
+    }
+    return exportedCount;
+  }
+
+  private int exportInCompletionOrder(
+      Iterator<String> pokemonNamesOrIds, Boolean isTranslated, OutputStream outputStream)
+      throws IOException {
+    BlockingQueue<PokemonResult> pokemonResults = new LinkedBlockingQueue<>();
+    int inFlightCount = 0;
+    int exportedCount = 0;
+    while (pokemonNamesOrIds.hasNext() || inFlightCount > 0) {
+      while (inFlightCount < exportParallelism && pokemonNamesOrIds.hasNext()) {
+        pokemonService
+            .getPokemonResult(pokemonNamesOrIds.next(), isTranslated)
+            .thenAccept(pokemonResults::add);
+        inFlightCount++;
+      }
+      try {
+        write(pokemonResults.take(), outputStream);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while exporting pokemons");
+      }
+      inFlightCount--;
+      exportedCount++;
+    }
+    return exportedCount;
+  }
+
+  private void write(PokemonResult pokemonResult, OutputStream outputStream) throws IOException {
+    outputStream.write(objectMapper.writeValueAsBytes(pokemonResult));
+    outputStream.write(LINE_SEPARATOR);
+    outputStream.flush();
+  }
+
+  private void validateExportSize(int exportSize) {
+    if (exportSize < 1 || exportSize > exportMaxSize) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Between 1 and " + exportMaxSize + " pokemons are required to export");
+    }
+  }
+}
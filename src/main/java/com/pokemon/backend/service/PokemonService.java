@@ -1,81 +1,290 @@
 package com.pokemon.backend.service;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import com.pokemon.backend.config.JsonPathConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.http.Deadline;
+import com.pokemon.backend.http.DeadlineExceededException;
+import com.pokemon.backend.http.UpstreamResponseException;
 import com.pokemon.backend.http.pokemon.PokemonHttpClient;
 import com.pokemon.backend.model.language.Language;
 import com.pokemon.backend.model.pokemon.Pokemon;
+import com.pokemon.backend.model.pokemon.PokemonResponse;
+import com.pokemon.backend.model.pokemon.PokemonResponseKey;
+import com.pokemon.backend.model.pokemon.PokemonResult;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import static com.pokemon.backend.config.CacheConfig.POKEMON_RESPONSE_CACHE_NAME;
 
 @Service
 @Log4j2
 public class PokemonService {
   @Autowired private PokemonHttpClient pokemonHttpClient;
   @Autowired private TranslationService translationService;
-  @Autowired private JsonPathConfig jsonPathConfig;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired
+  @Qualifier(POKEMON_RESPONSE_CACHE_NAME)
+  private Cache<PokemonResponseKey, PokemonResponse> pokemonResponseCache;
+
+  @Value("${app.pokemon.batch.max-size}")
+  private Integer batchMaxSize;
+
+  @Value("${app.pokemon.batch.parallelism}")
+  private Integer batchParallelism;
+
+  public CompletableFuture<Pokemon> getPokemon(String pokemonName, Boolean isTranslated) {
+    return getPokemon(pokemonName, isTranslated, Deadline.none());
+  }
 
-  public Pokemon getPokemon(String pokemonName, Boolean isTranslated)
-      throws URISyntaxException, ExecutionException, InterruptedException, ResponseStatusException {
+  public CompletableFuture<Pokemon> getPokemon(
+      String pokemonName, Boolean isTranslated, Deadline deadline) {
+    return getPokemon(pokemonName, isTranslated, List.of(), deadline);
+  }
+
+  public CompletableFuture<Pokemon> getPokemon(
+      String pokemonName, Boolean isTranslated, List<Language> languages, Deadline deadline) {
     log.info(
-        "Received request to get pokemon with name: {} and translation feature enabled status: {}",
+        "Received request to get pokemon with name: {}, languages: {} and translation feature enabled status: {}",
         pokemonName,
+        languages,
         isTranslated);
-    HttpResponse<String> pokemonResponse = pokemonHttpClient.getPokemon(pokemonName);
-    int pokemonResponseStatusCode = pokemonResponse.statusCode();
-    String pokemonResponseBody = pokemonResponse.body();
-    if (pokemonResponseStatusCode != HttpStatus.OK.value()) {
-      log.error(
-          "Server responded with failure with response status code: {} and message: {} when requested to get pokemon with name: {}",
-          pokemonResponseStatusCode,
-          pokemonResponseBody,
-          pokemonName);
-      throw new ResponseStatusException(
-          HttpStatus.valueOf(pokemonResponseStatusCode), pokemonResponseBody);
+    return pokemonHttpClient
+        .getPokemon(pokemonName, deadline)
+        .exceptionally(
+            exception -> {
+              throw toResponseStatusException(pokemonName, exception);
+            })
+        .thenCompose(
+            pokemonSpecies ->
+                getPokemon(
+                    isTranslated,
+                    pokemonSpecies,
+                    pokemonSpecies.getDescriptionLanguage(languages),
+                    deadline));
+  }
+
+  public CachedValue<PokemonResponse> getCachedPokemonResponse(
+      String pokemonName, Boolean isTranslated) {
+    return getCachedPokemonResponse(pokemonName, isTranslated, List.of());
+  }
+
+  public CachedValue<PokemonResponse> getCachedPokemonResponse(
+      String pokemonName, Boolean isTranslated, List<Language> languages) {
+    CachedValue<PokemonSpecies> cachedPokemonSpecies =
+        pokemonHttpClient.getCachedPokemon(pokemonName);
+    if (cachedPokemonSpecies == null) {
+      return null;
+    }
+    PokemonSpecies pokemonSpecies = cachedPokemonSpecies.getValue();
+    Language language = pokemonSpecies.getDescriptionLanguage(languages);
+    String description = pokemonSpecies.getDescription(language);
+    Duration timeToLive = cachedPokemonSpecies.getTimeToLive();
+    if (isTranslated && language == Language.EN && description != null && !description.isEmpty()) {
+      CachedValue<String> cachedDescription =
+          translationService.getCachedTranslatedPokemonDescription(
+              description, pokemonSpecies.getHabitat(), pokemonSpecies.getIsLegendary());
+      if (cachedDescription == null || cachedDescription.getValue().isEmpty()) {
+        return null;
+      }
+      description = cachedDescription.getValue();
+      if (cachedDescription.getTimeToLive().compareTo(timeToLive) < 0) {
+        timeToLive = cachedDescription.getTimeToLive();
+      }
+    }
+    PokemonResponseKey pokemonResponseKey =
+        new PokemonResponseKey(pokemonSpecies.getName(), isTranslated, language);
+    PokemonResponse pokemonResponse = pokemonResponseCache.getIfPresent(pokemonResponseKey);
+    if (pokemonResponse == null
+        || pokemonResponse.getPokemonSpecies() != pokemonSpecies
+        || !Objects.equals(pokemonResponse.getDescription(), description)) {
+      pokemonResponse = toPokemonResponse(toPokemon(pokemonSpecies, description), pokemonSpecies);
+      pokemonResponseCache.put(pokemonResponseKey, pokemonResponse);
+    }
+    return new CachedValue<>(pokemonResponse, timeToLive);
+  }
+
+  public PokemonResponse toPokemonResponse(Pokemon pokemon) {
+    return toPokemonResponse(pokemon, null);
+  }
+
+  private PokemonResponse toPokemonResponse(Pokemon pokemon, PokemonSpecies pokemonSpecies) {
+    try {
+      byte[] body = objectMapper.writeValueAsBytes(pokemon);
+      ByteArrayOutputStream gzippedBody = new ByteArrayOutputStream(body.length);
+      try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzippedBody)) {
+        gzipOutputStream.write(body);
+      }
+      String eTag = DigestUtils.md5DigestAsHex(body);
+      return new PokemonResponse(
+          pokemonSpecies,
+          pokemon.getDescription(),
+          body,
+          gzippedBody.toByteArray(),
+          "\"" + eTag + "\"",
+          "\"" + eTag + "-gzip\"");
+    } catch (IOException exception) {
+      throw new UncheckedIOException(
+          "Failed to serialize pokemon with name: " + pokemon.getName(), exception);
     }
-    DocumentContext pokemonContext =
-        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(pokemonResponseBody);
-    String name = pokemonContext.read("$['name']");
-    String habitat = pokemonContext.read("$['habitat']['name']");
-    Boolean isLegendary = pokemonContext.read("$['is_legendary']");
-    String description = getDescription(isTranslated, pokemonContext, habitat, isLegendary);
+  }
+
+  public CompletableFuture<List<PokemonResult>> getPokemons(
+      List<String> pokemonNames, Boolean isTranslated) {
+    List<String> distinctPokemonNames = getDistinctPokemonNames(pokemonNames);
     log.info(
-        "Received pokemon with name: {}, habitat: {}, is legendary status: {}, and description: {}",
-        name,
-        habitat,
-        isLegendary,
-        description);
+        "Received request to get pokemons with names: {} and translation feature enabled status: {}",
+        distinctPokemonNames,
+        isTranslated);
+    if (distinctPokemonNames.isEmpty() || distinctPokemonNames.size() > batchMaxSize) {
+      return CompletableFuture.failedFuture(
+          new ResponseStatusException(
+              HttpStatus.BAD_REQUEST,
+              "Between 1 and " + batchMaxSize + " distinct pokemon names are required"));
+    }
+    PokemonResult[] pokemonResults = new PokemonResult[distinctPokemonNames.size()];
+    AtomicInteger nextIndex = new AtomicInteger();
+    CompletableFuture<?>[] lanes =
+        new CompletableFuture<?>[Math.min(batchParallelism, distinctPokemonNames.size())];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = getPokemonResults(distinctPokemonNames, isTranslated, nextIndex, pokemonResults);
+    }
+    return CompletableFuture.allOf(lanes).thenApply(ignored -> Arrays.asList(pokemonResults));
+  }
+
+  public List<String> getDistinctPokemonNames(List<String> pokemonNames) {
+    return pokemonNames.stream()
+        .map(PokemonHttpClient::getCanonicalName)
+        .filter(pokemonName -> !pokemonName.isEmpty())
+        .distinct()
+        .collect(Collectors.toList());
+  }
+
+  public CompletableFuture<PokemonResult> getPokemonResult(
+      String pokemonName, Boolean isTranslated) {
+    return getPokemon(pokemonName, isTranslated, Deadline.none())
+        .handle(
+            (pokemon, exception) ->
+                exception == null
+                    ? PokemonResult.builder()
+                        .name(pokemonName)
+                        .status(HttpStatus.OK.value())
+                        .pokemon(pokemon)
+                        .build()
+                    : toPokemonResult(pokemonName, exception));
+  }
+
+  private CompletableFuture<Void> getPokemonResults(
+      List<String> pokemonNames,
+      Boolean isTranslated,
+      AtomicInteger nextIndex,
+      PokemonResult[] pokemonResults) {
+    int index = nextIndex.getAndIncrement();
+    if (index >= pokemonNames.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return getPokemonResult(pokemonNames.get(index), isTranslated)
+        .thenCompose(
+            pokemonResult -> {
+              pokemonResults[index] = pokemonResult;
+              return getPokemonResults(pokemonNames, isTranslated, nextIndex, pokemonResults);
+            });
+  }
+
+  private CompletableFuture<Pokemon> getPokemon(
+      Boolean isTranslated, PokemonSpecies pokemonSpecies, Language language, Deadline deadline) {
+    return getDescription(isTranslated, pokemonSpecies, language, deadline)
+        .thenApply(
+            description -> {
+              log.info(
+                  "Received pokemon with name: {}, habitat: {}, is legendary status: {}, and description: {}",
+                  pokemonSpecies.getName(),
+                  pokemonSpecies.getHabitat(),
+                  pokemonSpecies.getIsLegendary(),
+                  description);
+              return toPokemon(pokemonSpecies, description);
+            });
+  }
+
+  private Pokemon toPokemon(PokemonSpecies pokemonSpecies, String description) {
     return Pokemon.builder()
-        .name(name)
-        .isLegendary(isLegendary)
+        .name(pokemonSpecies.getName())
+        .isLegendary(pokemonSpecies.getIsLegendary())
         .description(description)
-        .habitat(habitat)
+        .habitat(pokemonSpecies.getHabitat())
         .build();
   }
 
-  private String getDescription(
-      Boolean isTranslated, DocumentContext pokemonContext, String habitat, Boolean isLegendary) {
-    List<String> englishDescriptions = getDescriptionsByLanguage(pokemonContext, Language.EN.code);
-    String anyEnglishDescription = englishDescriptions.stream().findAny().orElse(null);
-    String formattedEnglishDescription =
-        anyEnglishDescription != null ? anyEnglishDescription.replaceAll("[\n\f]", " ") : null;
-    return isTranslated
+  private CompletableFuture<String> getDescription(
+      Boolean isTranslated, PokemonSpecies pokemonSpecies, Language language, Deadline deadline) {
+    return isTranslated && language == Language.EN
         ? translationService.getTranslatedPokemonDescription(
-            formattedEnglishDescription, habitat, isLegendary)
-        : formattedEnglishDescription;
+            pokemonSpecies.getDescription(),
+            pokemonSpecies.getHabitat(),
+            pokemonSpecies.getIsLegendary(),
+            deadline)
+        : CompletableFuture.completedFuture(pokemonSpecies.getDescription(language));
+  }
+
+  private PokemonResult toPokemonResult(String pokemonName, Throwable exception) {
+    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+    if (cause instanceof ResponseStatusException) {
+      ResponseStatusException responseStatusException = (ResponseStatusException) cause;
+      return PokemonResult.builder()
+          .name(pokemonName)
+          .status(responseStatusException.getRawStatusCode())
+          .error(responseStatusException.getReason())
+          .build();
+    }
+    log.error("Failed to get pokemon with name: " + pokemonName + " due to: ", cause);
+    return PokemonResult.builder()
+        .name(pokemonName)
+        .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+        .error(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase())
+        .build();
   }
 
-  private List<String> getDescriptionsByLanguage(DocumentContext pokemonContext, String language) {
-    return pokemonContext.read(
-        "$['flavor_text_entries'][?(@.language.name=='" + language + "')]['flavor_text']");
+  private CompletionException toResponseStatusException(String pokemonName, Throwable exception) {
+    Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+    if (cause instanceof DeadlineExceededException) {
+      log.warn("Failed to get pokemon with name: {} as {}", pokemonName, cause.getMessage());
+      return new CompletionException(
+          new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, cause.getMessage()));
+    }
+    if (!(cause instanceof UpstreamResponseException)) {
+      return new CompletionException(cause);
+    }
+    UpstreamResponseException upstreamResponseException = (UpstreamResponseException) cause;
+    int pokemonResponseStatusCode = upstreamResponseException.getStatusCode();
+    String pokemonResponseBody = upstreamResponseException.getResponseBody();
+    log.error(
+        "Server responded with failure with response status code: {} and message: {} when requested to get pokemon with name: {}",
+        pokemonResponseStatusCode,
+        pokemonResponseBody,
+        pokemonName);
+    return new CompletionException(
+        new ResponseStatusException(
+            HttpStatus.valueOf(pokemonResponseStatusCode), pokemonResponseBody));
   }
 }
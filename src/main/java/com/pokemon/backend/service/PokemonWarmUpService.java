@@ -0,0 +1,252 @@
+package com.pokemon.backend.service;
+
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Service
+@Log4j2
+public class PokemonWarmUpService implements ApplicationRunner {
+  private static final String WARM_UP_METRIC_NAME = "pokemon.warm.up";
+  private static final String WARM_UP_POKEMONS_METRIC_NAME = "pokemon.warm.up.pokemons";
+  private static final Pattern ACCESS_LOG_POKEMON_PATTERN =
+      Pattern.compile("\"GET /pokemon(?:/translated)?/(?!export[?\\s\"])([^/?\\s\"]+)");
+  private static final Pattern ACCESS_LOG_POKEMONS_PATTERN =
+      Pattern.compile("\"GET /pokemon\\?(?:[^\\s\"]*&)?names=([^&\\s\"]+)");
+
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+  @Autowired private TranslationService translationService;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Value("${app.pokemon.warm-up.names}")
+  private List<String> warmUpNames;
+
+  @Value("${app.pokemon.warm-up.ids}")
+  private String warmUpIds;
+
+  @Value("${app.pokemon.warm-up.access-log-path}")
+  private String warmUpAccessLogPath;
+
+  @Value("${app.pokemon.warm-up.access-log-top}")
+  private Integer warmUpAccessLogTop;
+
+  @Value("${app.pokemon.warm-up.parallelism}")
+  private Integer warmUpParallelism;
+
+  @Value("${app.pokemon.warm-up.translated}")
+  private Boolean warmUpTranslated;
+
+  @Value("${app.pokemon.warm-up.timeout}")
+  private Integer warmUpTimeout;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    loadPokemonSpeciesNameFilter();
+    List<String> pokemonNamesOrIds = getWarmUpPokemonNamesOrIds();
+    if (pokemonNamesOrIds.isEmpty()) {
+      return;
+    }
+    warmUp(pokemonNamesOrIds);
+  }
+
+  private void loadPokemonSpeciesNameFilter() {
+    try {
+      pokemonHttpClient.loadPokemonSpeciesNameFilter().get(warmUpTimeout, TimeUnit.SECONDS);
+    } catch (TimeoutException | ExecutionException exception) {
+      log.warn("Failed to load species name filter due to: {}", exception.toString());
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void warmUp(List<String> pokemonNamesOrIds) {
+    log.info(
+        "Warming up {} pokemons with parallelism: {}, translation feature enabled status: {} and timeout: {} seconds",
+        pokemonNamesOrIds.size(),
+        warmUpParallelism,
+        warmUpTranslated,
+        warmUpTimeout);
+    long startTime = System.nanoTime();
+    AtomicInteger nextIndex = new AtomicInteger();
+    AtomicInteger completedCount = new AtomicInteger();
+    AtomicInteger failedCount = new AtomicInteger();
+    AtomicBoolean stopped = new AtomicBoolean();
+    CompletableFuture<?>[] lanes =
+        new CompletableFuture<?>[Math.min(warmUpParallelism, pokemonNamesOrIds.size())];
+    for (int i = 0; i < lanes.length; i++) {
+      lanes[i] = warmUp(pokemonNamesOrIds, nextIndex, completedCount, failedCount, stopped);
+    }
+    String outcome = "completed";
+    try {
+      CompletableFuture.allOf(lanes).get(warmUpTimeout, TimeUnit.SECONDS);
+    } catch (TimeoutException exception) {
+      stopped.set(true);
+      outcome = "timed_out";
+      log.warn("Warm-up ran out of its time budget of {} seconds", warmUpTimeout);
+    } catch (InterruptedException exception) {
+      stopped.set(true);
+      outcome = "interrupted";
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException exception) {
+      throw new IllegalStateException(exception.getCause());
+    }
+    long duration = System.nanoTime() - startTime;
+    meterRegistry
+        .timer(WARM_UP_METRIC_NAME, "outcome", outcome)
+        .record(duration, TimeUnit.NANOSECONDS);
+    log.info(
+        "Warmed up {} of {} pokemons with {} failed in {} ms",
+        completedCount.get() - failedCount.get(),
+        pokemonNamesOrIds.size(),
+        failedCount.get(),
+        TimeUnit.NANOSECONDS.toMillis(duration));
+  }
+
+  private CompletableFuture<Void> warmUp(
+      List<String> pokemonNamesOrIds,
+      AtomicInteger nextIndex,
+      AtomicInteger completedCount,
+      AtomicInteger failedCount,
+      AtomicBoolean stopped) {
+    int index = nextIndex.getAndIncrement();
+    if (stopped.get() || index >= pokemonNamesOrIds.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    String pokemonNameOrId = pokemonNamesOrIds.get(index);
+    return pokemonHttpClient
+        .getPokemon(pokemonNameOrId)
+        .thenCompose(this::warmUpTranslation)
+        .handle(
+            (ignored, exception) -> {
+              String result = exception == null ? "success" : "failure";
+              if (exception != null) {
+                failedCount.incrementAndGet();
+                log.warn(
+                    "Failed to warm up pokemon: {} due to: {}",
+                    pokemonNameOrId,
+                    exception.toString());
+              }
+              meterRegistry.counter(WARM_UP_POKEMONS_METRIC_NAME, "result", result).increment();
+              reportProgress(completedCount.incrementAndGet(), pokemonNamesOrIds.size());
+              return null;
+            })
+        .thenCompose(
+            ignored -> warmUp(pokemonNamesOrIds, nextIndex, completedCount, failedCount, stopped));
+  }
+
+  private CompletableFuture<String> warmUpTranslation(PokemonSpecies pokemonSpecies) {
+    return warmUpTranslated
+        ? translationService.getTranslatedPokemonDescription(
+            pokemonSpecies.getDescription(),
+            pokemonSpecies.getHabitat(),
+            pokemonSpecies.getIsLegendary())
+        : CompletableFuture.completedFuture(pokemonSpecies.getDescription());
+  }
+
+  private void reportProgress(int completedCount, int totalCount) {
+    int step = Math.max(1, totalCount / 10);
+    if (completedCount % step == 0 || completedCount == totalCount) {
+      log.info("Warm-up progress: {} of {} pokemons", completedCount, totalCount);
+    }
+  }
+
+  List<String> getWarmUpPokemonNamesOrIds() {
+    Set<String> pokemonNamesOrIds = new LinkedHashSet<>();
+    warmUpNames.stream()
+        .map(String::trim)
+        .filter(pokemonName -> !pokemonName.isEmpty())
+        .forEach(pokemonNamesOrIds::add);
+    getWarmUpIds().forEach(pokemonNamesOrIds::add);
+    getMostRequestedPokemonNames().forEach(pokemonNamesOrIds::add);
+    return new ArrayList<>(pokemonNamesOrIds);
+  }
+
+  private Stream<String> getWarmUpIds() {
+    if (warmUpIds == null || warmUpIds.isBlank()) {
+      return Stream.empty();
+    }
+    String[] bounds = warmUpIds.trim().split("-");
+    if (bounds.length != 2) {
+      throw new IllegalArgumentException("Invalid warm-up id range: " + warmUpIds);
+    }
+    return IntStream.rangeClosed(
+            Integer.parseInt(bounds[0].trim()), Integer.parseInt(bounds[1].trim()))
+        .mapToObj(Integer::toString);
+  }
+
+  private Stream<String> getMostRequestedPokemonNames() {
+    if (warmUpAccessLogPath == null || warmUpAccessLogPath.isBlank()) {
+      return Stream.empty();
+    }
+    Path accessLogPath = Path.of(warmUpAccessLogPath);
+    if (!Files.exists(accessLogPath)) {
+      log.info("Skipping warm-up from missing access log: {}", accessLogPath);
+      return Stream.empty();
+    }
+    Map<String, Long> requestCountsByPokemonName;
+    try (Stream<String> lines = Files.lines(accessLogPath, StandardCharsets.UTF_8)) {
+      requestCountsByPokemonName =
+          lines
+              .flatMap(PokemonWarmUpService::getRequestedPokemonNames)
+              .collect(Collectors.groupingBy(pokemonName -> pokemonName, Collectors.counting()));
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+    log.info(
+        "Read {} requested pokemons from access log: {}",
+        requestCountsByPokemonName.size(),
+        accessLogPath);
+    return requestCountsByPokemonName.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .limit(warmUpAccessLogTop)
+        .map(Map.Entry::getKey);
+  }
+
+  private static Stream<String> getRequestedPokemonNames(String line) {
+    Matcher pokemonMatcher = ACCESS_LOG_POKEMON_PATTERN.matcher(line);
+    if (pokemonMatcher.find()) {
+      return Stream.of(decode(pokemonMatcher.group(1)));
+    }
+    Matcher pokemonsMatcher = ACCESS_LOG_POKEMONS_PATTERN.matcher(line);
+    if (pokemonsMatcher.find()) {
+      return Arrays.stream(decode(pokemonsMatcher.group(1)).split(","))
+          .map(String::trim)
+          .filter(pokemonName -> !pokemonName.isEmpty());
+    }
+    return Stream.empty();
+  }
+
+  private static String decode(String value) {
+    return URLDecoder.decode(value, StandardCharsets.UTF_8);
+  }
+}
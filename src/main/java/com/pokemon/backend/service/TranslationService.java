@@ -1,72 +1,164 @@
 package com.pokemon.backend.service;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import com.pokemon.backend.config.JsonPathConfig;
+import com.pokemon.backend.http.CachedValue;
+import com.pokemon.backend.http.Deadline;
+import com.pokemon.backend.http.DeadlineExceededException;
+import com.pokemon.backend.http.UpstreamCallNotPermittedException;
 import com.pokemon.backend.http.translation.TranslationHttpClient;
 import com.pokemon.backend.model.pokemon.Habitat;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
-import java.util.concurrent.ExecutionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Log4j2
 public class TranslationService {
   private static final String YODA_TRANSLATION_URL_PATH = "/translate/yoda";
   private static final String SHAKESPEARE_TRANSLATION_URL_PATH = "/translate/shakespeare";
+  private static final String TRANSLATION_FALLBACKS_METRIC_NAME = "translation.fallbacks";
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+  private static final Pattern SENTENCE_BOUNDARY_PATTERN = Pattern.compile("(?<=[.!?]) ");
   @Autowired private TranslationHttpClient translationHttpClient;
-  @Autowired private JsonPathConfig jsonPathConfig;
+  @Autowired private MeterRegistry meterRegistry;
 
-  public String getTranslatedPokemonDescription(
+  @Value("${app.pokemon.translation-min-budget}")
+  private Integer translationMinBudget;
+
+  @Value("${app.caches.translation.sentences}")
+  private Boolean translationSentences;
+
+  public CompletableFuture<String> getTranslatedPokemonDescription(
       String description, String habitat, Boolean isLegendary) {
+    return getTranslatedPokemonDescription(description, habitat, isLegendary, Deadline.none());
+  }
+
+  public CompletableFuture<String> getTranslatedPokemonDescription(
+      String description, String habitat, Boolean isLegendary, Deadline deadline) {
     log.info(
         "Received request to translate pokemon description: {} with habitat: {}, and is legendary status: {}",
         description,
         habitat,
         isLegendary);
     return description != null && !description.isEmpty()
-        ? getTranslatedText(description, getTranslationUrlPath(habitat, isLegendary))
-        : description;
+        ? getTranslatedText(description, getTranslationUrlPath(habitat, isLegendary), deadline)
+        : CompletableFuture.completedFuture(description);
+  }
+
+  public CachedValue<String> getCachedTranslatedPokemonDescription(
+      String description, String habitat, Boolean isLegendary) {
+    String translationUrlPath = getTranslationUrlPath(habitat, isLegendary);
+    if (!translationSentences || description == null) {
+      return translationHttpClient.getCachedTranslatedText(translationUrlPath, description);
+    }
+    List<String> translatedSentences = new ArrayList<>();
+    Duration timeToLive = null;
+    for (String sentence : splitSentences(description)) {
+      CachedValue<String> translatedSentence =
+          translationHttpClient.getCachedTranslatedText(translationUrlPath, sentence);
+      if (translatedSentence == null || translatedSentence.getValue().isEmpty()) {
+        return null;
+      }
+      translatedSentences.add(translatedSentence.getValue());
+      if (timeToLive == null || translatedSentence.getTimeToLive().compareTo(timeToLive) < 0) {
+        timeToLive = translatedSentence.getTimeToLive();
+      }
+    }
+    return new CachedValue<>(String.join(" ", translatedSentences), timeToLive);
   }
 
-  private String getTranslatedText(String text, String translationUrlPath) {
+  private CompletableFuture<String> getTranslatedText(
+      String text, String translationUrlPath, Deadline deadline) {
     log.info(
         "Received request to translate text: {} from translation url path: {}",
         text,
         translationUrlPath);
-    try {
-      HttpResponse<String> translationResponse =
-          translationHttpClient.getTranslatedText(translationUrlPath, text);
-      int translationResponseStatusCode = translationResponse.statusCode();
-      String translatedText =
-          translationResponseStatusCode == HttpStatus.OK.value()
-              ? getTranslatedText(translationResponse)
-              : null;
-      log.info(
-          "Received translated text: {} from translation url path: {} with original text: {}",
-          translatedText,
-          translationUrlPath,
-          text);
-      text = translatedText != null && !translatedText.isEmpty() ? translatedText : text;
-    } catch (URISyntaxException | ExecutionException | InterruptedException exception) {
-      log.error("Failed to translate text: " + text + " due to: ", exception);
+    if (!deadline.hasRemaining(Duration.ofMillis(translationMinBudget))) {
+      log.warn("Skipped translating text: {} as the request budget is nearly spent", text);
+      countFallback(translationUrlPath, "budget");
+      return CompletableFuture.completedFuture(text);
     }
-    return text;
+    return translate(text, translationUrlPath, deadline)
+        .thenApply(
+            translatedText -> {
+              log.info(
+                  "Received translated text: {} from translation url path: {} with original text: {}",
+                  translatedText,
+                  translationUrlPath,
+                  text);
+              if (translatedText == null || translatedText.isEmpty()) {
+                countFallback(translationUrlPath, "empty");
+                return text;
+              }
+              return translatedText;
+            })
+        .exceptionally(
+            exception -> {
+              Throwable cause =
+                  exception instanceof CompletionException ? exception.getCause() : exception;
+              if (cause instanceof UpstreamCallNotPermittedException) {
+                log.warn("Skipped translating text: {} as {}", text, cause.getMessage());
+                countFallback(translationUrlPath, "rejected");
+                return text;
+              }
+              if (cause instanceof DeadlineExceededException) {
+                log.warn("Skipped translating text: {} as {}", text, cause.getMessage());
+                countFallback(translationUrlPath, "deadline");
+                return text;
+              }
+              log.error("Failed to translate text: " + text + " due to: ", exception);
+              countFallback(translationUrlPath, "error");
+              return text;
+            });
+  }
+
+  private CompletableFuture<String> translate(
+      String text, String translationUrlPath, Deadline deadline) {
+    if (!translationSentences) {
+      return translationHttpClient.getTranslatedText(translationUrlPath, text, deadline);
+    }
+    List<CompletableFuture<String>> translatedSentences =
+        splitSentences(text).stream()
+            .map(
+                sentence ->
+                    translationHttpClient.getTranslatedText(translationUrlPath, sentence, deadline))
+            .collect(Collectors.toList());
+    return CompletableFuture.allOf(translatedSentences.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored ->
+                translatedSentences.stream()
+                        .map(CompletableFuture::join)
+                        .anyMatch(
+                            translatedSentence ->
+                                translatedSentence == null || translatedSentence.isEmpty())
+                    ? null
+                    : translatedSentences.stream()
+                        .map(CompletableFuture::join)
+                        .collect(Collectors.joining(" ")));
+  }
+
+  static List<String> splitSentences(String text) {
+    String normalizedText = WHITESPACE_PATTERN.matcher(text).replaceAll(" ").trim();
+    return List.of(SENTENCE_BOUNDARY_PATTERN.split(normalizedText));
   }
 
-  private String getTranslatedText(HttpResponse<String> translationResponse) {
-    String translationResponseBody = translationResponse.body();
-    DocumentContext translationContext =
-        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(translationResponseBody);
-    return translationContext.read("$['contents']['translated']");
+  private void countFallback(String translationUrlPath, String reason) {
+    meterRegistry
+        .counter(
+            TRANSLATION_FALLBACKS_METRIC_NAME, "translation", translationUrlPath, "reason", reason)
+        .increment();
   }
 
-  private String getTranslationUrlPath(String habitat, Boolean isLegendary) {
+  String getTranslationUrlPath(String habitat, Boolean isLegendary) {
     return habitat != null && !habitat.isEmpty() && habitat.equals(Habitat.CAVE.name) || isLegendary
         ? YODA_TRANSLATION_URL_PATH
         : SHAKESPEARE_TRANSLATION_URL_PATH;
@@ -0,0 +1,163 @@
+package com.pokemon.backend.config;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.Application;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+      "app.caches.pokemon.duration=60",
+      "app.caches.pokemon.refresh=30",
+      "app.caches.pokemon.stale=300"
+    })
+public class CacheConfigTest {
+  private static final String PIKACHU_URL = "/api/v2/pokemon-species/pikachu";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+  }
+
+  @MockBean private Ticker ticker;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+
+  @Autowired
+  @Qualifier(POKEMON_CACHE_NAME)
+  private AsyncLoadingCache<String, PokemonSpecies> pokemonCache;
+
+  private final AtomicLong tickerNanos = new AtomicLong();
+
+  @BeforeEach
+  public void beforeEach() {
+    when(ticker.read()).thenAnswer(invocation -> tickerNanos.get());
+  }
+
+  @Test
+  @DisplayName("should serve stale pokemon while it is refreshed in the background")
+  public void shouldServeStalePokemonWhileItIsRefreshedInTheBackground()
+      throws IOException, ExecutionException, InterruptedException {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.getPokemon("pikachu").get();
+    // when
+    advanceTicker(Duration.ofSeconds(31));
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .willReturn(
+                aResponse().withStatus(200).withFixedDelay(500).withBody(mockPokemonResponseBody)));
+    // then
+    assertThat(pokemonHttpClient.getPokemon("pikachu")).isCompletedWithValue(pokemonSpecies);
+    awaitUpstreamRequestCount(2);
+  }
+
+  @Test
+  @DisplayName("should keep serving last good pokemon within stale duration when upstream is down")
+  public void shouldKeepServingLastGoodPokemonWithinStaleDurationWhenUpstreamIsDown()
+      throws IOException, ExecutionException, InterruptedException {
+    // given
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/pikachu.json")))));
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.getPokemon("pikachu").get();
+    // when
+    stubFor(get(urlEqualTo(PIKACHU_URL)).willReturn(aResponse().withStatus(503)));
+    // then
+    advanceTicker(Duration.ofSeconds(31));
+    assertThat(pokemonHttpClient.getPokemon("pikachu").get()).isEqualTo(pokemonSpecies);
+    awaitUpstreamRequestCount(2);
+    awaitRefreshesCompleted();
+    advanceTicker(Duration.ofSeconds(300));
+    assertThat(pokemonHttpClient.getPokemon("pikachu").get()).isEqualTo(pokemonSpecies);
+    awaitUpstreamRequestCount(3);
+    advanceTicker(Duration.ofSeconds(30));
+    Assertions.assertThrows(
+        ExecutionException.class, () -> pokemonHttpClient.getPokemon("pikachu").get());
+  }
+
+  private void advanceTicker(Duration duration) {
+    tickerNanos.addAndGet(duration.toNanos());
+  }
+
+  @Test
+  @DisplayName("should fail to start when pokemon cache refresh is not shorter than its duration")
+  public void shouldFailToStartWhenPokemonCacheRefreshIsNotShorterThanItsDuration() {
+    // given
+    SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(Application.class);
+    // when
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                applicationBuilder.run(
+                    "--server.port=0",
+                    "--app.caches.pokemon.duration=60",
+                    "--app.caches.pokemon.refresh=60"));
+    // then
+    assertThat(thrown)
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .hasStackTraceContaining("must be shorter than its duration");
+  }
+
+  private void awaitUpstreamRequestCount(int expectedRequestCount) throws InterruptedException {
+    for (int i = 0; i < 50 && countUpstreamRequests() < expectedRequestCount; i++) {
+      Thread.sleep(100);
+    }
+    assertThat(countUpstreamRequests()).isEqualTo(expectedRequestCount);
+  }
+
+  private void awaitRefreshesCompleted() throws InterruptedException {
+    for (int i = 0; i < 50 && !pokemonCache.synchronous().policy().refreshes().isEmpty(); i++) {
+      Thread.sleep(100);
+    }
+    assertThat(pokemonCache.synchronous().policy().refreshes()).isEmpty();
+  }
+
+  private int countUpstreamRequests() {
+    return wireMockServer
+        .countRequestsMatching(getRequestedFor(urlEqualTo(PIKACHU_URL)).build())
+        .getCount();
+  }
+}
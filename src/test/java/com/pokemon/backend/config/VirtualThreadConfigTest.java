@@ -0,0 +1,74 @@
+package com.pokemon.backend.config;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.AbstractHttpClient;
+import com.pokemon.backend.http.UpstreamHttpClient;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.HttpClientConfig.POKEMON_UPSTREAM_HTTP_CLIENT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"app.threads.virtual=true"})
+public class VirtualThreadConfigTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private AbstractHttpClient abstractHttpClient;
+
+  @Autowired
+  @Qualifier(POKEMON_UPSTREAM_HTTP_CLIENT_NAME)
+  private UpstreamHttpClient pokemonUpstreamHttpClient;
+
+  @Autowired private TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer;
+
+  @Test
+  @DisplayName("should run upstream http client callbacks on virtual threads")
+  public void shouldRunUpstreamHttpClientCallbacksOnVirtualThreads()
+      throws ExecutionException, InterruptedException {
+    // given
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(100).withBody("{}")));
+    // when
+    Thread actualCallbackThread =
+        abstractHttpClient
+            .getResponse(
+                pokemonUpstreamHttpClient,
+                pokemonUpstreamHttpClient
+                    .newRequestBuilder(
+                        URI.create("http://localhost:8080/api/v2/pokemon-species/pikachu"))
+                    .GET()
+                    .build())
+            .thenApplyAsync(
+                response -> Thread.currentThread(),
+                pokemonUpstreamHttpClient.getHttpClient().executor().orElseThrow())
+            .get();
+    // then
+    assertThat(actualCallbackThread.isVirtual()).isTrue();
+    assertThat(actualCallbackThread.getName()).startsWith("pokemon-http-");
+    assertThat(virtualThreadProtocolHandlerCustomizer).isNotNull();
+  }
+}
@@ -0,0 +1,88 @@
+package com.pokemon.backend.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"app.pokemon.request-budget=300"})
+@AutoConfigureMockMvc
+public class PokemonControllerRequestBudgetTest {
+  private static final String GET_POKEMON_ENDPOINT = "/pokemon/%s";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+  }
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private CacheManager cacheManager;
+
+  @Test
+  @DisplayName("should cap request budget header at configured request budget")
+  public void shouldCapRequestBudgetHeaderAtConfiguredRequestBudget() throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(mockPokemonResponseBody)
+                    .withFixedDelay(1500)));
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+            .header("X-Request-Budget", "60000")
+            .accept(MediaType.APPLICATION_JSON);
+    MvcResult mvcResult = mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    // then
+    mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isGatewayTimeout());
+  }
+
+  @Test
+  @DisplayName("should reject request budget header that is not positive")
+  public void shouldRejectRequestBudgetHeaderThatIsNotPositive() throws Exception {
+    for (String budget : new String[] {"0", "-1"}) {
+      // given
+      final MockHttpServletRequestBuilder request =
+          get(String.format(GET_POKEMON_ENDPOINT, "bulbasaur"))
+              .header("X-Request-Budget", budget)
+              .accept(MediaType.APPLICATION_JSON);
+      // then
+      mockMvc.perform(request).andExpect(status().isBadRequest());
+    }
+    verify(0, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/bulbasaur")));
+  }
+}
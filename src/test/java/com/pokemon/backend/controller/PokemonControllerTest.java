@@ -1,25 +1,42 @@
 package com.pokemon.backend.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.pokemon.backend.model.pokemon.Pokemon;
+import com.pokemon.backend.model.pokemon.PokemonResult;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.TRANSLATION_CACHE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -44,10 +61,13 @@ public class PokemonControllerTest {
   }
 
   private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final String GET_POKEMONS_ENDPOINT = "/pokemon";
   private static final String GET_POKEMON_ENDPOINT = "/pokemon/%s";
+  private static final String EXPORT_POKEMONS_ENDPOINT = "/pokemon/export";
   private static final String GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT =
       "/pokemon/translated/%s";
   @Autowired private MockMvc mockMvc;
+  @Autowired private CacheManager cacheManager;
 
   @Test
   @DisplayName("should return pokemon without description translated")
@@ -63,7 +83,7 @@ public class PokemonControllerTest {
     // then
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_ENDPOINT, pokemonName)).accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
     Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
     resultActions.andExpect(status().isOk());
@@ -98,7 +118,7 @@ public class PokemonControllerTest {
     // then
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_ENDPOINT, pokemonName)).accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
     Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
     resultActions.andExpect(status().isOk());
@@ -135,7 +155,7 @@ public class PokemonControllerTest {
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT, pokemonName))
             .accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
     Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
     resultActions.andExpect(status().isOk());
@@ -159,7 +179,7 @@ public class PokemonControllerTest {
     // then
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_ENDPOINT, pokemonName)).accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     resultActions.andExpect(status().isNotFound());
   }
 
@@ -189,7 +209,7 @@ public class PokemonControllerTest {
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT, pokemonName))
             .accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
     Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
     resultActions.andExpect(status().isOk());
@@ -228,7 +248,7 @@ public class PokemonControllerTest {
     final MockHttpServletRequestBuilder request =
         get(String.format(GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT, pokemonName))
             .accept(MediaType.APPLICATION_JSON);
-    ResultActions resultActions = mockMvc.perform(request);
+    ResultActions resultActions = performAsync(request);
     String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
     Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
     resultActions.andExpect(status().isOk());
@@ -239,4 +259,369 @@ public class PokemonControllerTest {
         .isEqualTo(
             "Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.");
   }
+
+  @Test
+  @DisplayName("should return strong ETag and max age from remaining cache time to live")
+  public void shouldReturnStrongETagAndMaxAgeFromRemainingCacheTimeToLive() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    // when
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    // then
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu")).accept(MediaType.APPLICATION_JSON);
+    MockHttpServletResponse response =
+        performAsync(request).andExpect(status().isOk()).andReturn().getResponse();
+    assertThat(response.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]{32}\"");
+    assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).matches("max-age=(5\\d|60), public");
+  }
+
+  @Test
+  @DisplayName("should return gzipped pokemon when client accepts gzip")
+  public void shouldReturnGzippedPokemonWhenClientAcceptsGzip() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    // when
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    // then
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            .accept(MediaType.APPLICATION_JSON);
+    MockHttpServletResponse response =
+        performAsync(request).andExpect(status().isOk()).andReturn().getResponse();
+    Pokemon actualPokemon;
+    try (GZIPInputStream gzipInputStream =
+        new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      actualPokemon = objectMapper.readValue(gzipInputStream, Pokemon.class);
+    }
+    assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo("Accept-Encoding, Accept-Language");
+    assertThat(response.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+    assertThat(actualPokemon.getName()).isEqualTo("pikachu");
+  }
+
+  @Test
+  @DisplayName("should return not modified without calling pokemon server when ETag matches")
+  public void shouldReturnNotModifiedWithoutCallingPokemonServerWhenETagMatches() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    String eTag =
+        performAsync(
+                get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+                    .accept(MediaType.APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            .accept(MediaType.APPLICATION_JSON);
+    MockHttpServletResponse response =
+        performAsync(request).andExpect(status().isNotModified()).andReturn().getResponse();
+    // then
+    assertThat(response.getContentAsString()).isEmpty();
+    assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(eTag);
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
+  }
+
+  @Test
+  @DisplayName("should return pokemon with description in language of lang parameter")
+  public void shouldReturnPokemonWithDescriptionInLanguageOfLangParameter() throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT, "pikachu"))
+            .param("lang", "fr")
+            .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+            .accept(MediaType.APPLICATION_JSON);
+    // then
+    MockHttpServletResponse response =
+        performAsync(request).andExpect(status().isOk()).andReturn().getResponse();
+    Pokemon actualPokemon = objectMapper.readValue(response.getContentAsByteArray(), Pokemon.class);
+    assertThat(actualPokemon.getDescription())
+        .isEqualTo(
+            "Il lui arrive de remettre d’aplomb un Pikachu allié en lui envoyant une décharge électrique.");
+    assertThat(response.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_LANGUAGE);
+    verify(0, postRequestedFor(urlMatching("/translate/.*")));
+  }
+
+  @Test
+  @DisplayName(
+      "should return pokemon with description in first available language of accept language header")
+  public void shouldReturnPokemonWithDescriptionInFirstAvailableLanguageOfAcceptLanguageHeader()
+      throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+            .header(HttpHeaders.ACCEPT_LANGUAGE, "nl-NL, de-CH;q=0.8, en;q=0.5")
+            .accept(MediaType.APPLICATION_JSON);
+    // then
+    MockHttpServletResponse response =
+        performAsync(request).andExpect(status().isOk()).andReturn().getResponse();
+    Pokemon actualPokemon = objectMapper.readValue(response.getContentAsByteArray(), Pokemon.class);
+    assertThat(actualPokemon.getDescription())
+        .isEqualTo(
+            "Es streckt seinen Schweif nach oben, um seine Umgebung zu prüfen. Häufig fährt ein Blitz hinein.");
+  }
+
+  @Test
+  @DisplayName("should return bad request when lang parameter is not supported")
+  public void shouldReturnBadRequestWhenLangParameterIsNotSupported() throws Exception {
+    // given
+    String pokemonName = "pikachu";
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, pokemonName))
+            .param("lang", "klingon")
+            .accept(MediaType.APPLICATION_JSON);
+    // then
+    mockMvc.perform(request).andExpect(status().isBadRequest());
+    verify(0, getRequestedFor(urlMatching("/api/v2/pokemon-species/.*")));
+  }
+
+  @Test
+  @DisplayName("should return gateway timeout when pokemon is not fetched within request budget")
+  public void shouldReturnGatewayTimeoutWhenPokemonIsNotFetchedWithinRequestBudget()
+      throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    // when
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(mockPokemonResponseBody)
+                    .withFixedDelay(1500)));
+    // then
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_ENDPOINT, "pikachu"))
+            .header("X-Request-Budget", "300")
+            .accept(MediaType.APPLICATION_JSON);
+    performAsync(request).andExpect(status().isGatewayTimeout());
+  }
+
+  @Test
+  @DisplayName(
+      "should return pokemon with description untranslated when translation exceeds request budget")
+  public void shouldReturnPokemonWithDescriptionUntranslatedWhenTranslationExceedsRequestBudget()
+      throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    cacheManager.getCache(TRANSLATION_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/diglett.json"));
+    String mockTranslationResponseBody =
+        Files.readString(
+            Path.of("src/test/resources/data/diglett_yoda_translated_description.json"));
+    // when
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/diglett"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(mockTranslationResponseBody)
+                    .withFixedDelay(1500)));
+    // then
+    final MockHttpServletRequestBuilder request =
+        get(String.format(GET_POKEMON_WITH_DESCRIPTION_TRANSLATED_ENDPOINT, "diglett"))
+            .header("X-Request-Budget", "1000")
+            .accept(MediaType.APPLICATION_JSON);
+    ResultActions resultActions = performAsync(request);
+    String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
+    Pokemon actualPokemon = objectMapper.readValue(contentAsString, Pokemon.class);
+    resultActions.andExpect(status().isOk());
+    assertThat(actualPokemon.getName()).isEqualTo("diglett");
+    assertThat(actualPokemon.getDescription())
+        .isEqualTo(
+            "Lives about one yard underground where it feeds on plant roots. It sometimes appears above ground.");
+  }
+
+  @Test
+  @DisplayName("should return results and errors for distinct pokemon names in one response")
+  public void shouldReturnResultsAndErrorsForDistinctPokemonNamesInOneResponse() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPikachuResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    String mockDiglettResponseBody =
+        Files.readString(Path.of("src/test/resources/data/diglett.json"));
+    // when
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPikachuResponseBody)));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/diglett"))
+            .willReturn(aResponse().withStatus(200).withBody(mockDiglettResponseBody)));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/missingno"))
+            .willReturn(aResponse().withStatus(404).withBody("Not Found")));
+    // then
+    final MockHttpServletRequestBuilder request =
+        get(GET_POKEMONS_ENDPOINT)
+            .param("names", "pikachu,missingno, diglett,Pikachu")
+            .accept(MediaType.APPLICATION_JSON);
+    ResultActions resultActions = performAsync(request);
+    String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
+    List<PokemonResult> actualPokemonResults =
+        objectMapper.readValue(contentAsString, new TypeReference<>() {});
+    resultActions.andExpect(status().isOk());
+    assertThat(actualPokemonResults)
+        .extracting(PokemonResult::getName)
+        .containsExactly("pikachu", "missingno", "diglett");
+    assertThat(actualPokemonResults)
+        .extracting(PokemonResult::getStatus)
+        .containsExactly(200, 404, 200);
+    assertThat(actualPokemonResults.get(0).getPokemon().getHabitat()).isEqualTo("forest");
+    assertThat(actualPokemonResults.get(1).getPokemon()).isNull();
+    assertThat(actualPokemonResults.get(1).getError()).isEqualTo("Not Found");
+    assertThat(actualPokemonResults.get(2).getPokemon().getHabitat()).isEqualTo("cave");
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
+  }
+
+  @Test
+  @DisplayName("should return bad request when batch exceeds maximum size")
+  public void shouldReturnBadRequestWhenBatchExceedsMaximumSize() throws Exception {
+    // given
+    String pokemonNames =
+        IntStream.rangeClosed(1, 11).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(GET_POKEMONS_ENDPOINT).param("names", pokemonNames).accept(MediaType.APPLICATION_JSON);
+    // then
+    performAsync(request).andExpect(status().isBadRequest());
+    verify(0, getRequestedFor(urlMatching("/api/v2/pokemon-species/.*")));
+  }
+
+  @Test
+  @DisplayName("should stream pokemon results as lines in input order")
+  public void shouldStreamPokemonResultsAsLinesInInputOrder() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    stubExportedPokemons();
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(EXPORT_POKEMONS_ENDPOINT).param("names", "pikachu,diglett,missingno");
+    // then
+    MockHttpServletResponse response =
+        mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON_VALUE);
+    assertThat(readPokemonResults(response))
+        .extracting(PokemonResult::getName, PokemonResult::getStatus)
+        .containsExactly(tuple("pikachu", 200), tuple("diglett", 200), tuple("missingno", 404));
+  }
+
+  @Test
+  @DisplayName("should stream pokemon results as lines in completion order")
+  public void shouldStreamPokemonResultsAsLinesInCompletionOrder() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    stubExportedPokemons();
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(EXPORT_POKEMONS_ENDPOINT)
+            .param("names", "pikachu,diglett,missingno")
+            .param("order", "COMPLETION");
+    // then
+    MockHttpServletResponse response =
+        mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    assertThat(readPokemonResults(response))
+        .extracting(PokemonResult::getName)
+        .containsExactly("diglett", "missingno", "pikachu");
+  }
+
+  @Test
+  @DisplayName("should export each pokemon once whatever the case of its names")
+  public void shouldExportEachPokemonOnceWhateverTheCaseOfItsNames() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    stubExportedPokemons();
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(EXPORT_POKEMONS_ENDPOINT).param("names", "Pikachu,pikachu, PIKACHU ,diglett");
+    // then
+    MockHttpServletResponse response =
+        mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse();
+    assertThat(readPokemonResults(response))
+        .extracting(PokemonResult::getName, PokemonResult::getStatus)
+        .containsExactly(tuple("pikachu", 200), tuple("diglett", 200));
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
+  }
+
+  @Test
+  @DisplayName("should return bad request when export id range is invalid")
+  public void shouldReturnBadRequestWhenExportIdRangeIsInvalid() throws Exception {
+    // when
+    final MockHttpServletRequestBuilder request =
+        get(EXPORT_POKEMONS_ENDPOINT).param("ids", "151-1");
+    // then
+    mockMvc.perform(request).andExpect(status().isBadRequest());
+    verify(0, getRequestedFor(urlMatching("/api/v2/pokemon-species/.*")));
+  }
+
+  private void stubExportedPokemons() throws Exception {
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/pikachu.json")))
+                    .withFixedDelay(500)));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/diglett"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/diglett.json")))));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/missingno"))
+            .willReturn(aResponse().withStatus(404).withBody("Not Found")));
+  }
+
+  private List<PokemonResult> readPokemonResults(MockHttpServletResponse response)
+      throws Exception {
+    List<PokemonResult> pokemonResults = new ArrayList<>();
+    for (String line : response.getContentAsString().split("\n")) {
+      pokemonResults.add(objectMapper.readValue(line, PokemonResult.class));
+    }
+    return pokemonResults;
+  }
+
+  private ResultActions performAsync(MockHttpServletRequestBuilder requestBuilder)
+      throws Exception {
+    MvcResult mvcResult =
+        mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+    return mockMvc.perform(asyncDispatch(mvcResult));
+  }
 }
@@ -0,0 +1,96 @@
+package com.pokemon.backend.controller;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.TRANSLATION_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+public class PokemonMetricsTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    cacheManager.getCache(TRANSLATION_CACHE_NAME).clear();
+  }
+
+  private static final String PROMETHEUS_ENDPOINT = "/actuator/prometheus";
+  @Autowired private MockMvc mockMvc;
+  @Autowired private CacheManager cacheManager;
+
+  @Test
+  @DisplayName("should expose upstream, cache, request and translation fallback metrics")
+  public void shouldExposeUpstreamCacheRequestAndTranslationFallbackMetrics() throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    stubFor(post(urlEqualTo("/translate/shakespeare")).willReturn(aResponse().withStatus(429)));
+    // when
+    for (int i = 0; i < 2; i++) {
+      MvcResult mvcResult =
+          mockMvc
+              .perform(get("/pokemon/translated/pikachu").accept(MediaType.APPLICATION_JSON))
+              .andExpect(request().asyncStarted())
+              .andReturn();
+      mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+    }
+    String actualMetrics =
+        mockMvc
+            .perform(get(PROMETHEUS_ENDPOINT))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    // then
+    assertThat(actualMetrics)
+        .containsPattern(
+            "upstream_requests_seconds_count\\{.*status=\"200\",upstream=\"pokemon\",} 1\\.0")
+        .containsPattern(
+            "upstream_requests_seconds_count\\{.*status=\"429\",upstream=\"translation\",} 2\\.0")
+        .containsPattern("upstream_requests_seconds_bucket\\{.*upstream=\"pokemon\",le=")
+        .containsPattern("cache_gets_total\\{.*cache=\"pokemonCache\",.*result=\"hit\",} 1\\.0")
+        .containsPattern("cache_gets_total\\{.*cache=\"pokemonCache\",.*result=\"miss\",} 1\\.0")
+        .containsPattern("cache_evictions_total\\{.*cache=\"translationCache\"")
+        .containsPattern(
+            "pokemon_requests_seconds_count\\{.*status=\"200\",uri=\"/pokemon/translated/\\{name}\",} 2\\.0")
+        .containsPattern(
+            "translation_fallbacks_total\\{.*reason=\"error\",translation=\"/translate/shakespeare\",} 2\\.0");
+  }
+}
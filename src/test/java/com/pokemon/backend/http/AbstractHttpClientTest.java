@@ -0,0 +1,110 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.ExecutionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.HttpClientConfig.POKEMON_UPSTREAM_HTTP_CLIENT_NAME;
+import static com.pokemon.backend.config.HttpClientConfig.TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class AbstractHttpClientTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private AbstractHttpClient abstractHttpClient;
+
+  @Autowired
+  @Qualifier(POKEMON_UPSTREAM_HTTP_CLIENT_NAME)
+  private UpstreamHttpClient pokemonUpstreamHttpClient;
+
+  @Autowired
+  @Qualifier(TRANSLATION_UPSTREAM_HTTP_CLIENT_NAME)
+  private UpstreamHttpClient translationUpstreamHttpClient;
+
+  @Test
+  @DisplayName("should build one long-lived http client per upstream with configured settings")
+  public void shouldBuildOneLongLivedHttpClientPerUpstreamWithConfiguredSettings() {
+    assertThat(pokemonUpstreamHttpClient.getUpstream()).isEqualTo(Upstream.POKEMON);
+    assertThat(translationUpstreamHttpClient.getUpstream()).isEqualTo(Upstream.TRANSLATION);
+    assertThat(pokemonUpstreamHttpClient.getHttpClient())
+        .isNotSameAs(translationUpstreamHttpClient.getHttpClient());
+    assertThat(pokemonUpstreamHttpClient.getHttpClient().version())
+        .isEqualTo(HttpClient.Version.HTTP_2);
+    assertThat(pokemonUpstreamHttpClient.getHttpClient().connectTimeout())
+        .hasValueSatisfying(
+            connectTimeout -> assertThat(connectTimeout.toMillis()).isEqualTo(1000));
+    assertThat(pokemonUpstreamHttpClient.getRequestTimeout().toMillis()).isEqualTo(2000);
+  }
+
+  @Test
+  @DisplayName("should send every request through the same upstream http client")
+  public void shouldSendEveryRequestThroughTheSameUpstreamHttpClient()
+      throws ExecutionException, InterruptedException {
+    // given
+    HttpClient httpClient = pokemonUpstreamHttpClient.getHttpClient();
+    long requestCount = pokemonUpstreamHttpClient.getRequestCount().get();
+    // when
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu")).willReturn(aResponse().withStatus(200)));
+    // then
+    for (int i = 0; i < 3; i++) {
+      HttpResponse<String> response =
+          abstractHttpClient.getResponse(pokemonUpstreamHttpClient, buildPikachuRequest()).get();
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+    assertThat(pokemonUpstreamHttpClient.getHttpClient()).isSameAs(httpClient);
+    assertThat(pokemonUpstreamHttpClient.getRequestCount().get()).isEqualTo(requestCount + 3);
+  }
+
+  @Test
+  @DisplayName("should time out when upstream responds slower than request timeout")
+  public void shouldTimeOutWhenUpstreamRespondsSlowerThanRequestTimeout() {
+    // when
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+    // then
+    ExecutionException thrown =
+        Assertions.assertThrows(
+            ExecutionException.class,
+            () ->
+                abstractHttpClient
+                    .getResponse(pokemonUpstreamHttpClient, buildPikachuRequest())
+                    .get());
+    assertThat(thrown.getCause()).isInstanceOf(HttpTimeoutException.class);
+  }
+
+  private HttpRequest buildPikachuRequest() {
+    return pokemonUpstreamHttpClient
+        .newRequestBuilder(URI.create("http://localhost:8080/api/v2/pokemon-species/pikachu"))
+        .GET()
+        .build();
+  }
+}
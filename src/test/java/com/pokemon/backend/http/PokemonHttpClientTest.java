@@ -1,26 +1,31 @@
 package com.pokemon.backend.http;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import com.pokemon.backend.config.JsonPathConfig;
 import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_NOT_FOUND_CACHE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -42,15 +47,15 @@ public class PokemonHttpClientTest {
   public void afterEach() {
     wireMockServer.resetAll();
     cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    cacheManager.getCache(POKEMON_NOT_FOUND_CACHE_NAME).clear();
   }
 
   @Autowired private PokemonHttpClient pokemonHttpClient;
-  @Autowired private JsonPathConfig jsonPathConfig;
+  @Autowired private MeterRegistry meterRegistry;
 
   @Test
   @DisplayName("should return pokemon")
-  public void shouldReturnPokemon()
-      throws URISyntaxException, ExecutionException, InterruptedException, IOException {
+  public void shouldReturnPokemon() throws ExecutionException, InterruptedException, IOException {
     // given
     String pokemonName = "pikachu";
     // when
@@ -61,32 +66,21 @@ public class PokemonHttpClientTest {
         get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    HttpResponse<String> actualPokemonResponse = pokemonHttpClient.getPokemon(pokemonName);
-    HttpResponse cachedActualPokemon =
-        cacheManager.getCache(POKEMON_CACHE_NAME).get("pikachu", HttpResponse.class);
-    int actualPokemonResponseStatusCode = actualPokemonResponse.statusCode();
-    String actualPokemonResponseBody = actualPokemonResponse.body();
-    DocumentContext actualPokemonContext =
-        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(actualPokemonResponseBody);
-    String actualPokemonName = actualPokemonContext.read("$['name']");
-    String actualPokemonHabitat = actualPokemonContext.read("$['habitat']['name']");
-    Boolean actualPokemonIsLegendary = actualPokemonContext.read("$['is_legendary']");
-    List<String> actualPokemonDescriptions =
-        actualPokemonContext.read("$['flavor_text_entries'][*]['flavor_text']");
-    assertThat(actualPokemonResponseStatusCode).isEqualTo(200);
-    assertThat(actualPokemonName).isEqualTo("pikachu");
-    assertThat(actualPokemonHabitat).isEqualTo("forest");
-    assertThat(actualPokemonIsLegendary).isEqualTo(false);
-    assertThat(actualPokemonDescriptions)
-        .contains(
-            "When several of these POKeMON gather,\ntheir electricity can build and cause\nlightning storms.");
-    assertThat(cachedActualPokemon).isNotNull();
+    PokemonSpecies actualPokemonSpecies = pokemonHttpClient.getPokemon(pokemonName).get();
+    PokemonSpecies cachedActualPokemonSpecies =
+        cacheManager.getCache(POKEMON_CACHE_NAME).get("pikachu", PokemonSpecies.class);
+    assertThat(actualPokemonSpecies.getName()).isEqualTo("pikachu");
+    assertThat(actualPokemonSpecies.getHabitat()).isEqualTo("forest");
+    assertThat(actualPokemonSpecies.getIsLegendary()).isEqualTo(false);
+    assertThat(actualPokemonSpecies.getDescription())
+        .isEqualTo(
+            "When several of these POKeMON gather, their electricity can build and cause lightning storms.");
+    assertThat(cachedActualPokemonSpecies).isEqualTo(actualPokemonSpecies);
   }
 
   @Test
   @DisplayName("should throw not found exception when pokemon is not found from server")
-  public void shouldThrowNotFoundExceptionWhenPokemonIsNotFoundFromServer()
-      throws URISyntaxException, ExecutionException, InterruptedException {
+  public void shouldThrowNotFoundExceptionWhenPokemonIsNotFoundFromServer() {
     // given
     String pokemonName = "invalid_pokemon";
     // when
@@ -94,8 +88,124 @@ public class PokemonHttpClientTest {
         get(urlEqualTo("/api/v2/pokemon-species/invalid_pokemon"))
             .willReturn(aResponse().withStatus(404).withBody("Not Found")));
     // then
-    HttpResponse<String> actualPokemonResponse = pokemonHttpClient.getPokemon(pokemonName);
-    assertThat(actualPokemonResponse.statusCode()).isEqualTo(404);
-    assertThat(actualPokemonResponse.body()).isEqualTo("Not Found");
+    ExecutionException thrown =
+        Assertions.assertThrows(
+            ExecutionException.class, () -> pokemonHttpClient.getPokemon(pokemonName).get());
+    UpstreamResponseException actualUpstreamResponseException =
+        (UpstreamResponseException) thrown.getCause();
+    assertThat(actualUpstreamResponseException.getStatusCode()).isEqualTo(404);
+    assertThat(actualUpstreamResponseException.getResponseBody()).isEqualTo("Not Found");
+    assertThat(cacheManager.getCache(POKEMON_CACHE_NAME).get(pokemonName)).isNull();
+  }
+
+  @Test
+  @DisplayName("should resolve name forms and id of pokemon to one cache entry")
+  public void shouldResolveNameFormsAndIdOfPokemonToOneCacheEntry()
+      throws IOException, ExecutionException, InterruptedException {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    // when
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/25"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    // then
+    PokemonSpecies actualPokemonSpecies = pokemonHttpClient.getPokemon("25").get();
+    for (String nameOrId : List.of("pikachu", " Pikachu ", "PIKACHU", "025", "25")) {
+      assertThat(pokemonHttpClient.getPokemon(nameOrId).get()).isSameAs(actualPokemonSpecies);
+    }
+    assertThat(pokemonHttpClient.getCachedPokemon("25").getValue()).isSameAs(actualPokemonSpecies);
+    assertThat(cacheManager.getCache(POKEMON_CACHE_NAME).get("pikachu", PokemonSpecies.class))
+        .isSameAs(actualPokemonSpecies);
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/25")));
+    verify(0, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
+  }
+
+  @Test
+  @DisplayName("should serve repeated not found pokemon from negative cache")
+  public void shouldServeRepeatedNotFoundPokemonFromNegativeCache() {
+    // given
+    String pokemonName = "pikachuu";
+    double negativeCacheHitCount =
+        meterRegistry.counter("pokemon.not.found", "source", "negative_cache").count();
+    // when
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachuu"))
+            .willReturn(aResponse().withStatus(404).withBody("Not Found")));
+    // then
+    for (int i = 0; i < 3; i++) {
+      ExecutionException thrown =
+          Assertions.assertThrows(
+              ExecutionException.class, () -> pokemonHttpClient.getPokemon(pokemonName).get());
+      assertThat(((UpstreamResponseException) thrown.getCause()).getStatusCode()).isEqualTo(404);
+    }
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachuu")));
+    assertThat(cacheManager.getCache(POKEMON_NOT_FOUND_CACHE_NAME).get(pokemonName).get())
+        .isEqualTo("Not Found");
+    assertThat(meterRegistry.counter("pokemon.not.found", "source", "negative_cache").count())
+        .isEqualTo(negativeCacheHitCount + 2);
+  }
+
+  @Test
+  @DisplayName("should send a single upstream request when pokemon is requested concurrently")
+  public void shouldSendSingleUpstreamRequestWhenPokemonIsRequestedConcurrently()
+      throws IOException, InterruptedException, ExecutionException {
+    // given
+    String pokemonName = "pikachu";
+    int concurrentRequestCount = 20;
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    ExecutorService executorService = Executors.newFixedThreadPool(concurrentRequestCount);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    // when
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse().withStatus(200).withFixedDelay(500).withBody(mockPokemonResponseBody)));
+    List<Future<PokemonSpecies>> actualPokemonSpecies = new ArrayList<>();
+    for (int i = 0; i < concurrentRequestCount; i++) {
+      actualPokemonSpecies.add(
+          executorService.submit(
+              () -> {
+                startLatch.await();
+                return pokemonHttpClient.getPokemon(pokemonName).get();
+              }));
+    }
+    startLatch.countDown();
+    // then
+    for (Future<PokemonSpecies> pokemonSpecies : actualPokemonSpecies) {
+      assertThat(pokemonSpecies).succeedsWithin(Duration.ofSeconds(5));
+      assertThat(pokemonSpecies.get().getName()).isEqualTo("pikachu");
+    }
+    executorService.shutdown();
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
+  }
+
+  @Test
+  @DisplayName("should not let a small request budget fail concurrent loads of the same pokemon")
+  public void shouldNotLetSmallRequestBudgetFailConcurrentLoadsOfSamePokemon() throws IOException {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(
+                aResponse().withStatus(200).withFixedDelay(500).withBody(mockPokemonResponseBody)));
+    // when
+    CompletableFuture<PokemonSpecies> budgetedPokemonSpecies =
+        pokemonHttpClient.getPokemon("pikachu", Deadline.after(Duration.ofMillis(100)));
+    CompletableFuture<PokemonSpecies> unbudgetedPokemonSpecies =
+        pokemonHttpClient.getPokemon("pikachu");
+    // then
+    assertThat(budgetedPokemonSpecies)
+        .failsWithin(Duration.ofSeconds(5))
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(DeadlineExceededException.class);
+    assertThat(unbudgetedPokemonSpecies).succeedsWithin(Duration.ofSeconds(5));
+    assertThat(unbudgetedPokemonSpecies.join().getName()).isEqualTo("pikachu");
+    verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachu")));
   }
 }
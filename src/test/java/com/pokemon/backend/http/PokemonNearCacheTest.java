@@ -0,0 +1,115 @@
+package com.pokemon.backend.http;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.http.pokemon.PokemonNearCache;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_NEAR_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+      "app.caches.pokemon.near.size=64",
+      "app.caches.pokemon.near.duration=1000",
+      "app.caches.pokemon.near.min-frequency=3"
+    })
+public class PokemonNearCacheTest {
+  private static final String PIKACHU_URL = "/api/v2/pokemon-species/pikachu";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    pokemonNearCache.invalidateAll();
+  }
+
+  @MockBean private Ticker ticker;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+
+  @Autowired
+  @Qualifier(POKEMON_NEAR_CACHE_NAME)
+  private PokemonNearCache pokemonNearCache;
+
+  private final AtomicLong tickerNanos = new AtomicLong();
+
+  @BeforeEach
+  public void beforeEach() throws IOException {
+    when(ticker.read()).thenAnswer(invocation -> tickerNanos.get());
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(Files.readString(Path.of("src/test/resources/data/pikachu.json")))));
+  }
+
+  @Test
+  @DisplayName("should serve frequent pokemon from near cache until its time to live has passed")
+  public void shouldServeFrequentPokemonFromNearCacheUntilItsTimeToLiveHasPassed() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      pokemonHttpClient.getPokemon("pikachu").join();
+    }
+    pokemonHttpClient.getPokemon("Pikachu").join();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    // when
+    PokemonSpecies nearCachedPokemonSpecies = pokemonHttpClient.getPokemon("pikachu").join();
+    CachedValue<PokemonSpecies> cachedPokemonSpecies =
+        pokemonHttpClient.getCachedPokemon("pikachu");
+    advanceTicker(Duration.ofMillis(1001));
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.getPokemon("pikachu").join();
+    // then
+    assertThat(nearCachedPokemonSpecies.getName()).isEqualTo("pikachu");
+    assertThat(cachedPokemonSpecies.getTimeToLive()).isEqualTo(Duration.ofSeconds(60));
+    assertThat(pokemonSpecies.getName()).isEqualTo("pikachu");
+    verify(2, getRequestedFor(urlEqualTo(PIKACHU_URL)));
+  }
+
+  @Test
+  @DisplayName("should not admit pokemon to near cache before it has been seen often enough")
+  public void shouldNotAdmitPokemonToNearCacheBeforeItHasBeenSeenOftenEnough() {
+    // given
+    pokemonHttpClient.getPokemon("pikachu").join();
+    pokemonHttpClient.getPokemon("pikachu").join();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    // when
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.getPokemon("pikachu").join();
+    // then
+    assertThat(pokemonSpecies.getName()).isEqualTo("pikachu");
+    verify(2, getRequestedFor(urlEqualTo(PIKACHU_URL)));
+  }
+
+  private void advanceTicker(Duration duration) {
+    tickerNanos.addAndGet(duration.toNanos());
+  }
+}
@@ -0,0 +1,76 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesNameFilter;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.caches.pokemon-not-found.name-filter=true")
+@DirtiesContext
+public class PokemonSpeciesNameFilterTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/?limit=100000"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        "{\"count\":2,\"results\":[{\"name\":\"pikachu\"},{\"name\":\"diglett\"}]}")));
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+
+  @Test
+  @DisplayName("should contain every name and reject few unknown names")
+  public void shouldContainEveryNameAndRejectFewUnknownNames() {
+    // given
+    List<String> names =
+        IntStream.range(0, 1000).mapToObj(i -> "species-" + i).collect(Collectors.toList());
+    // when
+    PokemonSpeciesNameFilter pokemonSpeciesNameFilter = PokemonSpeciesNameFilter.of(names, 0.01);
+    // then
+    assertThat(names).allMatch(pokemonSpeciesNameFilter::mightContain);
+    long falsePositiveCount =
+        IntStream.range(0, 10000)
+            .mapToObj(i -> "unknown-" + i)
+            .filter(pokemonSpeciesNameFilter::mightContain)
+            .count();
+    assertThat(falsePositiveCount).isLessThan(300);
+    assertThat(pokemonSpeciesNameFilter.getBitCount()).isLessThan(10 * 1000);
+  }
+
+  @Test
+  @DisplayName("should reject unknown pokemon name without calling pokemon server")
+  public void shouldRejectUnknownPokemonNameWithoutCallingPokemonServer() {
+    // given
+    String pokemonName = "pikachuu";
+    // when
+    ExecutionException thrown =
+        Assertions.assertThrows(
+            ExecutionException.class, () -> pokemonHttpClient.getPokemon(pokemonName).get());
+    // then
+    assertThat(((UpstreamResponseException) thrown.getCause()).getStatusCode()).isEqualTo(404);
+    verify(0, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/pikachuu")));
+  }
+}
@@ -0,0 +1,66 @@
+package com.pokemon.backend.http;
+
+import com.pokemon.backend.http.pokemon.PokemonSpeciesParser;
+import com.pokemon.backend.model.language.Language;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class PokemonSpeciesParserTest {
+  @Autowired private PokemonSpeciesParser pokemonSpeciesParser;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"pikachu", "diglett", "mewtwo"})
+  @DisplayName("should extract same species with streaming parser as with json path parser")
+  public void shouldExtractSameSpeciesWithStreamingParserAsWithJsonPathParser(String pokemonName)
+      throws IOException {
+    // given
+    byte[] pokemonResponseBody =
+        Files.readAllBytes(Path.of("src/test/resources/data/" + pokemonName + ".json"));
+    // when
+    PokemonSpecies actualJsonPathPokemonSpecies =
+        pokemonSpeciesParser.parse(new String(pokemonResponseBody, StandardCharsets.UTF_8));
+    PokemonSpecies actualStreamingPokemonSpecies =
+        pokemonSpeciesParser.parse(new ByteArrayInputStream(pokemonResponseBody));
+    // then
+    assertThat(actualStreamingPokemonSpecies.getName()).isEqualTo(pokemonName);
+    assertThat(actualStreamingPokemonSpecies.getDescription()).isNotNull();
+    assertThat(actualStreamingPokemonSpecies).isEqualTo(actualJsonPathPokemonSpecies);
+  }
+
+  @Test
+  @DisplayName("should stop streaming once all species fields are extracted")
+  public void shouldStopStreamingOnceAllSpeciesFieldsAreExtracted() {
+    // given
+    String pokemonResponseBody =
+        "{\"flavor_text_entries\": [{\"flavor_text\": \"Hier\\nwohnt\", \"language\": {\"name\": \"de\"}},"
+            + " {\"flavor_text\": \"Lives\\funderground.\", \"language\": {\"name\": \"en\"}}],"
+            + " \"habitat\": null, \"id\": 50, \"is_legendary\": false, \"name\": \"diglett\","
+            + " \"names\": [ this is never read";
+    // when
+    PokemonSpecies actualPokemonSpecies =
+        pokemonSpeciesParser.parse(
+            new ByteArrayInputStream(pokemonResponseBody.getBytes(StandardCharsets.UTF_8)));
+    // then
+    assertThat(actualPokemonSpecies.getId()).isEqualTo(50);
+    assertThat(actualPokemonSpecies.getName()).isEqualTo("diglett");
+    assertThat(actualPokemonSpecies.getHabitat()).isNull();
+    assertThat(actualPokemonSpecies.getIsLegendary()).isFalse();
+    assertThat(actualPokemonSpecies.getDescription()).isEqualTo("Lives underground.");
+    assertThat(actualPokemonSpecies.getDescription(Language.DE)).isEqualTo("Hier wohnt");
+    assertThat(actualPokemonSpecies.getDescription(Language.FR)).isNull();
+  }
+}
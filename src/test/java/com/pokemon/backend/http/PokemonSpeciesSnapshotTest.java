@@ -0,0 +1,120 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesParser;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesSnapshot;
+import com.pokemon.backend.http.pokemon.PokemonSpeciesSnapshotBuilder;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.caches.pokemon.snapshot-path=build/species-snapshot-test.bin")
+public class PokemonSpeciesSnapshotTest {
+  private static final Path SNAPSHOT_PATH = Path.of("build/species-snapshot-test.bin");
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() throws IOException {
+    PokemonSpeciesSnapshot.write(
+        SNAPSHOT_PATH,
+        new PokemonSpeciesSnapshotBuilder().readFromDirectory(Path.of("src/test/resources/data")));
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private PokemonSpeciesParser pokemonSpeciesParser;
+  @Autowired private PokemonSpeciesSnapshot pokemonSpeciesSnapshot;
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+
+  @ParameterizedTest
+  @ValueSource(strings = {"pikachu", "diglett", "mewtwo"})
+  @DisplayName("should read same species from snapshot as from json dump")
+  public void shouldReadSameSpeciesFromSnapshotAsFromJsonDump(String pokemonName)
+      throws IOException {
+    // given
+    PokemonSpecies expectedPokemonSpecies;
+    try (InputStream input =
+        Files.newInputStream(Path.of("src/test/resources/data/" + pokemonName + ".json"))) {
+      expectedPokemonSpecies = pokemonSpeciesParser.parse(input);
+    }
+    // when
+    PokemonSpecies actualPokemonSpecies = pokemonSpeciesSnapshot.get(pokemonName);
+    // then
+    assertThat(pokemonSpeciesSnapshot.size()).isEqualTo(3);
+    assertThat(actualPokemonSpecies).isEqualTo(expectedPokemonSpecies);
+  }
+
+  @Test
+  @DisplayName("should serve pokemon from snapshot without requesting pokemon server")
+  public void shouldServePokemonFromSnapshotWithoutRequestingPokemonServer() throws Exception {
+    // given
+    String pokemonName = "mewtwo";
+    // when
+    PokemonSpecies actualPokemonSpecies = pokemonHttpClient.fetchPokemon(pokemonName).get();
+    // then
+    assertThat(actualPokemonSpecies.getName()).isEqualTo(pokemonName);
+    assertThat(actualPokemonSpecies.getHabitat()).isEqualTo("rare");
+    assertThat(actualPokemonSpecies.getIsLegendary()).isTrue();
+    wireMockServer.verify(0, getRequestedFor(anyUrl()));
+  }
+
+  @Test
+  @DisplayName(
+      "should serve pokemon requested by id from snapshot without requesting pokemon server")
+  public void shouldServePokemonRequestedByIdFromSnapshotWithoutRequestingPokemonServer()
+      throws Exception {
+    // given
+    String pokemonId = "025";
+    // when
+    PokemonSpecies actualPokemonSpecies = pokemonHttpClient.getPokemon(pokemonId).get();
+    // then
+    assertThat(actualPokemonSpecies.getName()).isEqualTo("pikachu");
+    assertThat(actualPokemonSpecies.getId()).isEqualTo(25);
+    assertThat(pokemonHttpClient.getCachedPokemon("25").getValue()).isEqualTo(actualPokemonSpecies);
+    assertThat(pokemonSpeciesSnapshot.getById(151)).isNull();
+    wireMockServer.verify(0, getRequestedFor(anyUrl()));
+  }
+
+  @Test
+  @DisplayName("should fall back to pokemon server for pokemon missing from snapshot")
+  public void shouldFallBackToPokemonServerForPokemonMissingFromSnapshot() throws Exception {
+    // given
+    String pokemonName = "pikachu";
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/ditto"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of("src/test/resources/data/" + pokemonName + ".json")))));
+    // when
+    PokemonSpecies actualPokemonSpecies = pokemonHttpClient.fetchPokemon("ditto").get();
+    // then
+    assertThat(pokemonSpeciesSnapshot.get("ditto")).isNull();
+    assertThat(actualPokemonSpecies.getName()).isEqualTo(pokemonName);
+    wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/ditto")));
+  }
+}
@@ -0,0 +1,103 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.translation.TranslationHttpClient;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+@SpringBootTest(
+    properties = {
+      "app.http.translation.batch.window=200",
+      "app.http.translation.batch.max-size=10"
+    })
+@DirtiesContext
+public class TranslationBatcherTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private TranslationHttpClient translationHttpClient;
+
+  @Test
+  @DisplayName("should translate texts of concurrent callers in a single translation server call")
+  public void shouldTranslateTextsOfConcurrentCallersInASingleTranslationServerCall() {
+    // given
+    List<String> texts =
+        IntStream.range(0, 5).mapToObj(i -> "Batched text " + i + ".").collect(Collectors.toList());
+    List<String> translatedTexts =
+        IntStream.range(0, 5)
+            .mapToObj(i -> "Text " + i + " batched,  it is.")
+            .collect(Collectors.toList());
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .withRequestBody(equalTo("text=" + String.join(" | ", texts)))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        "{\"contents\":{\"translated\":\""
+                            + String.join(" | ", translatedTexts)
+                            + "\"}}")));
+    // when
+    List<CompletableFuture<String>> futures =
+        texts.stream()
+            .map(text -> translationHttpClient.getTranslatedText("/translate/yoda", text))
+            .collect(Collectors.toList());
+    // then
+    assertThat(futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+        .isEqualTo(translatedTexts);
+    verify(1, postRequestedFor(urlEqualTo("/translate/yoda")));
+  }
+
+  @Test
+  @DisplayName("should not cache nor retranslate texts when batch translation cannot be split")
+  public void shouldNotCacheNorRetranslateTextsWhenBatchTranslationCannotBeSplit() {
+    // given
+    List<String> texts =
+        IntStream.range(0, 3).mapToObj(i -> "Unsplit text " + i + ".").collect(Collectors.toList());
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody("{\"contents\":{\"translated\":\"Texts unsplit,  they are.\"}}")));
+    // when
+    List<CompletableFuture<String>> futures =
+        texts.stream()
+            .map(text -> translationHttpClient.getTranslatedText("/translate/yoda", text))
+            .collect(Collectors.toList());
+    // then
+    for (int i = 0; i < texts.size(); i++) {
+      assertThat(catchThrowable(futures.get(i)::join))
+          .hasRootCauseInstanceOf(IllegalStateException.class);
+      assertThat(translationHttpClient.getCachedTranslatedText("/translate/yoda", texts.get(i)))
+          .isNull();
+    }
+    verify(1, postRequestedFor(urlEqualTo("/translate/yoda")));
+  }
+}
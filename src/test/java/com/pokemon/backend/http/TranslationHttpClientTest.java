@@ -1,21 +1,24 @@
 package com.pokemon.backend.http;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
-import com.pokemon.backend.config.JsonPathConfig;
 import com.pokemon.backend.http.translation.TranslationHttpClient;
+import com.pokemon.backend.http.translation.TranslationKey;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
@@ -44,12 +47,11 @@ public class TranslationHttpClientTest {
   }
 
   @Autowired private TranslationHttpClient translationHttpClient;
-  @Autowired private JsonPathConfig jsonPathConfig;
 
   @Test
   @DisplayName("should return translated text with Shakespeare translation")
   public void shouldReturnTranslatedTextWithShakespeareTranslation()
-      throws URISyntaxException, ExecutionException, InterruptedException, IOException {
+      throws ExecutionException, InterruptedException, IOException {
     // given
     String text =
         "When several of these POKeMON gather, their electricity could build and cause lightning storms.";
@@ -62,30 +64,22 @@ public class TranslationHttpClientTest {
             .withRequestBody(equalTo("text=" + text))
             .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
     // then
-    HttpResponse<String> actualTranslationResponse =
-        translationHttpClient.getTranslatedText("/translate/shakespeare", text);
-    HttpResponse actualCachedTranslationResponse =
+    String actualTranslatedText =
+        translationHttpClient.getTranslatedText("/translate/shakespeare", text).get();
+    String actualCachedTranslatedText =
         cacheManager
             .getCache(TRANSLATION_CACHE_NAME)
-            .get(
-                "/translate/shakespeare-When several of these POKeMON gather, their electricity could build and cause lightning storms.",
-                HttpResponse.class);
-    int actualTranslationResponseStatusCode = actualTranslationResponse.statusCode();
-    String actualTranslationResponseBody = actualTranslationResponse.body();
-    DocumentContext actualTranslationContext =
-        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(actualTranslationResponseBody);
-    String actualTranslatedText = actualTranslationContext.read("$['contents']['translated']");
-    assertThat(actualTranslationResponseStatusCode).isEqualTo(200);
+            .get(new TranslationKey("/translate/shakespeare", text), String.class);
     assertThat(actualTranslatedText)
         .isEqualTo(
             "At which hour several of these pokemon gather,  their electricity couldst buildeth and cause lightning storms.");
-    assertThat(actualCachedTranslationResponse).isNotNull();
+    assertThat(actualCachedTranslatedText).isEqualTo(actualTranslatedText);
   }
 
   @Test
   @DisplayName("should return translated text with yoda translation")
   public void shouldReturnTranslatedTextWithYodaTranslation()
-      throws URISyntaxException, ExecutionException, InterruptedException, IOException {
+      throws ExecutionException, InterruptedException, IOException {
     // given
     String text =
         "Lives about one yard underground where it feeds on plant roots. It sometimes appears above ground.";
@@ -98,16 +92,75 @@ public class TranslationHttpClientTest {
             .withRequestBody(equalTo("text=" + text))
             .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
     // then
-    HttpResponse<String> actualTranslationResponse =
-        translationHttpClient.getTranslatedText("/translate/yoda", text);
-    int actualTranslationResponseStatusCode = actualTranslationResponse.statusCode();
-    String actualTranslationResponseBody = actualTranslationResponse.body();
-    DocumentContext actualTranslationContext =
-        JsonPath.using(jsonPathConfig.getJsonPathConfig()).parse(actualTranslationResponseBody);
-    String actualTranslatedText = actualTranslationContext.read("$['contents']['translated']");
-    assertThat(actualTranslationResponseStatusCode).isEqualTo(200);
+    String actualTranslatedText =
+        translationHttpClient.getTranslatedText("/translate/yoda", text).get();
     assertThat(actualTranslatedText)
         .isEqualTo(
             "On plant roots,  lives about one yard underground where it feeds.Above ground,  it sometimes appears.");
   }
+
+  @Test
+  @DisplayName("should send a single upstream request when text is translated concurrently")
+  public void shouldSendSingleUpstreamRequestWhenTextIsTranslatedConcurrently()
+      throws IOException, InterruptedException, ExecutionException {
+    // given
+    String text =
+        "Lives about one yard underground where it feeds on plant roots. It sometimes appears above ground.";
+    int concurrentRequestCount = 20;
+    String mockTranslationResponseBody =
+        Files.readString(
+            Path.of("src/test/resources/data/diglett_yoda_translated_description.json"));
+    ExecutorService executorService = Executors.newFixedThreadPool(concurrentRequestCount);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    // when
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .withRequestBody(equalTo("text=" + text))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(500)
+                    .withBody(mockTranslationResponseBody)));
+    List<Future<String>> actualTranslatedTexts = new ArrayList<>();
+    for (int i = 0; i < concurrentRequestCount; i++) {
+      actualTranslatedTexts.add(
+          executorService.submit(
+              () -> {
+                startLatch.await();
+                return translationHttpClient.getTranslatedText("/translate/yoda", text).get();
+              }));
+    }
+    startLatch.countDown();
+    // then
+    for (Future<String> translatedText : actualTranslatedTexts) {
+      assertThat(translatedText).succeedsWithin(Duration.ofSeconds(5));
+      assertThat(translatedText.get())
+          .isEqualTo(
+              "On plant roots,  lives about one yard underground where it feeds.Above ground,  it sometimes appears.");
+    }
+    executorService.shutdown();
+    verify(1, postRequestedFor(urlEqualTo("/translate/yoda")));
+  }
+
+  @Test
+  @DisplayName("should not cache translation when translation server returns error response")
+  public void shouldNotCacheTranslationWhenTranslationServerReturnsErrorResponse() {
+    // given
+    String text =
+        "A legendary bird POKeMON that is said to appear from clouds while dropping enormous lightning bolts.";
+    // when
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .withRequestBody(equalTo("text=" + text))
+            .willReturn(aResponse().withStatus(429)));
+    // then
+    for (int i = 0; i < 2; i++) {
+      ExecutionException thrown =
+          Assertions.assertThrows(
+              ExecutionException.class,
+              () -> translationHttpClient.getTranslatedText("/translate/yoda", text).get());
+      assertThat(((UpstreamResponseException) thrown.getCause()).getStatusCode()).isEqualTo(429);
+    }
+    verify(2, postRequestedFor(urlEqualTo("/translate/yoda")));
+  }
 }
@@ -0,0 +1,169 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.translation.TranslationHttpClient;
+import com.pokemon.backend.http.translation.TranslationKey;
+import com.pokemon.backend.http.translation.TranslationStore;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.TRANSLATION_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    properties = {
+      "app.caches.translation.store-path=" + TranslationStoreTest.TRANSLATION_STORE_PATH
+    })
+public class TranslationStoreTest {
+  static final String TRANSLATION_STORE_PATH = "build/translation-store-test.log";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() throws IOException {
+    Files.deleteIfExists(Path.of(TRANSLATION_STORE_PATH));
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+    cacheManager.getCache(TRANSLATION_CACHE_NAME).clear();
+  }
+
+  @Autowired private CacheManager cacheManager;
+  @Autowired private TranslationHttpClient translationHttpClient;
+
+  @Test
+  @DisplayName("should serve translation from translation store after restart without upstream")
+  public void shouldServeTranslationFromTranslationStoreAfterRestartWithoutUpstream()
+      throws IOException, ExecutionException, InterruptedException {
+    // given
+    String text =
+        "Lives about one yard underground where it feeds on plant roots. It sometimes appears above ground.";
+    String expectedTranslatedText =
+        "On plant roots,  lives about one yard underground where it feeds.Above ground,  it sometimes appears.";
+    String mockTranslationResponseBody =
+        Files.readString(
+            Path.of("src/test/resources/data/diglett_yoda_translated_description.json"));
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .withRequestBody(equalTo("text=" + text))
+            .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
+    translationHttpClient.getTranslatedText("/translate/yoda", text).get();
+    wireMockServer.resetAll();
+    cacheManager.getCache(TRANSLATION_CACHE_NAME).clear();
+    // when
+    String actualTranslatedText =
+        translationHttpClient.getTranslatedText("/translate/yoda", text).get();
+    String actualRestartedTranslatedText;
+    try (TranslationStore restartedTranslationStore =
+        TranslationStore.open(Path.of(TRANSLATION_STORE_PATH))) {
+      actualRestartedTranslatedText =
+          restartedTranslationStore.get(new TranslationKey("/translate/yoda", text)).get();
+    }
+    // then
+    assertThat(actualTranslatedText).isEqualTo(expectedTranslatedText);
+    assertThat(actualRestartedTranslatedText).isEqualTo(expectedTranslatedText);
+    verify(0, postRequestedFor(urlEqualTo("/translate/yoda")));
+  }
+
+  @Test
+  @DisplayName("should not store translation when translation server returns error response")
+  public void shouldNotStoreTranslationWhenTranslationServerReturnsErrorResponse()
+      throws IOException, ExecutionException, InterruptedException {
+    // given
+    String text =
+        "A legendary bird POKeMON that is said to appear from clouds while dropping enormous lightning bolts.";
+    stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .withRequestBody(equalTo("text=" + text))
+            .willReturn(aResponse().withStatus(429)));
+    // when
+    Assertions.assertThrows(
+        ExecutionException.class,
+        () -> translationHttpClient.getTranslatedText("/translate/yoda", text).get());
+    String actualStoredTranslatedText;
+    try (TranslationStore restartedTranslationStore =
+        TranslationStore.open(Path.of(TRANSLATION_STORE_PATH))) {
+      actualStoredTranslatedText =
+          restartedTranslationStore.get(new TranslationKey("/translate/yoda", text)).get();
+    }
+    // then
+    assertThat(actualStoredTranslatedText).isNull();
+  }
+
+  @Test
+  @DisplayName("should truncate partially written record when translation store is opened")
+  public void shouldTruncatePartiallyWrittenRecordWhenTranslationStoreIsOpened(
+      @TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException {
+    // given
+    Path translationStorePath = tempDir.resolve("translations.log");
+    TranslationKey firstTranslationKey = new TranslationKey("/translate/yoda", "first");
+    TranslationKey secondTranslationKey = new TranslationKey("/translate/shakespeare", "second");
+    try (TranslationStore translationStore = TranslationStore.open(translationStorePath)) {
+      translationStore.put(firstTranslationKey, "first translated").get();
+    }
+    long validLength = Files.size(translationStorePath);
+    Files.write(translationStorePath, new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+    // when
+    try (TranslationStore translationStore = TranslationStore.open(translationStorePath)) {
+      translationStore.put(secondTranslationKey, "second translated").get();
+    }
+    TranslationStore reopenedTranslationStore = TranslationStore.open(translationStorePath);
+    // then
+    assertThat(reopenedTranslationStore.get(firstTranslationKey).get())
+        .isEqualTo("first translated");
+    assertThat(reopenedTranslationStore.get(secondTranslationKey).get())
+        .isEqualTo("second translated");
+    assertThat(reopenedTranslationStore.size()).isEqualTo(2);
+    assertThat(Files.size(translationStorePath)).isGreaterThan(validLength);
+    reopenedTranslationStore.close();
+  }
+
+  @Test
+  @DisplayName("should truncate record with invalid length and keep serving loaded translations")
+  public void shouldTruncateRecordWithInvalidLengthAndKeepServingLoadedTranslations(
+      @TempDir Path tempDir) throws IOException, ExecutionException, InterruptedException {
+    // given
+    Path translationStorePath = tempDir.resolve("translations.log");
+    TranslationKey firstTranslationKey = new TranslationKey("/translate/yoda", "first");
+    TranslationKey secondTranslationKey = new TranslationKey("/translate/shakespeare", "second");
+    try (TranslationStore translationStore = TranslationStore.open(translationStorePath)) {
+      translationStore.put(firstTranslationKey, "first translated").get();
+    }
+    long validLength = Files.size(translationStorePath);
+    Files.write(
+        translationStorePath,
+        new byte[] {-1, -1, -1, -16, 1, 2, 3, 4, 5, 6, 7, 8},
+        StandardOpenOption.APPEND);
+    // when
+    try (TranslationStore translationStore = TranslationStore.open(translationStorePath)) {
+      assertThat(translationStore.get(firstTranslationKey).get()).isEqualTo("first translated");
+      assertThat(Files.size(translationStorePath)).isEqualTo(validLength);
+      translationStore.put(secondTranslationKey, "second translated").get();
+    }
+    TranslationStore reopenedTranslationStore = TranslationStore.open(translationStorePath);
+    // then
+    assertThat(reopenedTranslationStore.get(firstTranslationKey).get())
+        .isEqualTo("first translated");
+    assertThat(reopenedTranslationStore.get(secondTranslationKey).get())
+        .isEqualTo("second translated");
+    reopenedTranslationStore.close();
+  }
+}
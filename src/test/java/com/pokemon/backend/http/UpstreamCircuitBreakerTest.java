@@ -0,0 +1,229 @@
+package com.pokemon.backend.http;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.translation.TranslationHttpClient;
+import com.pokemon.backend.http.translation.TranslationKey;
+import com.pokemon.backend.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.net.ConnectException;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.HttpClientConfig.TRANSLATION_CIRCUIT_BREAKER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+      "app.http.translation.circuit-breaker.failure-threshold=2",
+      "app.http.translation.circuit-breaker.open-duration=60000",
+      "app.http.translation.circuit-breaker.max-concurrent-calls=1"
+    })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class UpstreamCircuitBreakerTest {
+  private static final String SHAKESPEARE_URL = "/translate/shakespeare";
+  private static final String TEXT = "Lives underground.";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @MockBean private Ticker ticker;
+  @Autowired private TranslationHttpClient translationHttpClient;
+  @Autowired private TranslationService translationService;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired
+  @Qualifier(TRANSLATION_CIRCUIT_BREAKER_NAME)
+  private UpstreamCircuitBreaker translationCircuitBreaker;
+
+  private final AtomicLong tickerNanos = new AtomicLong();
+
+  @BeforeEach
+  public void beforeEach() {
+    when(ticker.read()).thenAnswer(invocation -> tickerNanos.get());
+  }
+
+  @Test
+  @DisplayName(
+      "should skip translation server while circuit is open and close it after successful trial call")
+  public void shouldSkipTranslationServerWhileCircuitIsOpenAndCloseItAfterSuccessfulTrialCall()
+      throws Exception {
+    // given
+    stubFor(post(urlEqualTo(SHAKESPEARE_URL)).willReturn(aResponse().withStatus(503)));
+    fetchTranslatedText().exceptionally(exception -> null).get();
+    fetchTranslatedText().exceptionally(exception -> null).get();
+    // when
+    Throwable thrown = catchThrowable(() -> fetchTranslatedText().get());
+    String actualDescription =
+        translationService.getTranslatedPokemonDescription(TEXT, "forest", false).get();
+    // then
+    assertThat(thrown.getCause()).isInstanceOf(UpstreamCallNotPermittedException.class);
+    assertThat(actualDescription).isEqualTo(TEXT);
+    assertThat(translationCircuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    assertThat(meterRegistry.get("upstream.circuit.breaker.state").gauge().value()).isEqualTo(1.0);
+    assertThat(
+            meterRegistry.get("translation.fallbacks").tag("reason", "rejected").counter().count())
+        .isEqualTo(1.0);
+    wireMockServer.verify(2, postRequestedFor(urlEqualTo(SHAKESPEARE_URL)));
+    // when
+    stubFor(
+        post(urlEqualTo(SHAKESPEARE_URL))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of(
+                                "src/test/resources/data/pikachu_shakespeare_translated_description.json")))));
+    tickerNanos.addAndGet(Duration.ofSeconds(60).toNanos());
+    String actualTranslatedText = fetchTranslatedText().get();
+    // then
+    assertThat(actualTranslatedText).isNotNull();
+    assertThat(translationCircuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    wireMockServer.verify(3, postRequestedFor(urlEqualTo(SHAKESPEARE_URL)));
+  }
+
+  @Test
+  @DisplayName("should keep circuit open for retry after duration of too many requests response")
+  public void shouldKeepCircuitOpenForRetryAfterDurationOfTooManyRequestsResponse()
+      throws Exception {
+    // given
+    stubFor(
+        post(urlEqualTo(SHAKESPEARE_URL))
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "120")));
+    fetchTranslatedText().exceptionally(exception -> null).get();
+    // when
+    tickerNanos.addAndGet(Duration.ofSeconds(90).toNanos());
+    Throwable thrown = catchThrowable(() -> fetchTranslatedText().get());
+    // then
+    assertThat(thrown.getCause()).isInstanceOf(UpstreamCallNotPermittedException.class);
+    assertThat(translationCircuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo(SHAKESPEARE_URL)));
+    // when
+    tickerNanos.addAndGet(Duration.ofSeconds(30).toNanos());
+    // then
+    assertThat(translationCircuitBreaker.getState())
+        .isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+  }
+
+  @Test
+  @DisplayName("should reject calls beyond bulkhead size without calling translation server")
+  public void shouldRejectCallsBeyondBulkheadSizeWithoutCallingTranslationServer()
+      throws ExecutionException, InterruptedException {
+    // given
+    stubFor(
+        post(urlEqualTo(SHAKESPEARE_URL))
+            .willReturn(aResponse().withStatus(500).withFixedDelay(500)));
+    CompletableFuture<String> inFlightTranslatedText = fetchTranslatedText();
+    // when
+    Throwable thrown = catchThrowable(() -> fetchTranslatedText().get());
+    // then
+    assertThat(thrown.getCause()).isInstanceOf(UpstreamCallNotPermittedException.class);
+    assertThat(((UpstreamCallNotPermittedException) thrown.getCause()).getReason())
+        .isEqualTo("bulkhead is full");
+    inFlightTranslatedText.exceptionally(exception -> null).get();
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo(SHAKESPEARE_URL)));
+    assertThat(
+            meterRegistry
+                .get("upstream.circuit.breaker.rejections")
+                .tag("reason", "bulkhead")
+                .counter()
+                .count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("should ignore late success of call made before circuit opened while half open")
+  public void shouldIgnoreLateSuccessOfCallMadeBeforeCircuitOpenedWhileHalfOpen() {
+    // given
+    UpstreamCircuitBreaker circuitBreaker =
+        UpstreamCircuitBreaker.of(
+            Upstream.TRANSLATION,
+            1,
+            Duration.ofSeconds(60),
+            10,
+            tickerNanos::get,
+            new SimpleMeterRegistry());
+    CompletableFuture<String> lateCall = new CompletableFuture<>();
+    circuitBreaker.execute(() -> lateCall);
+    circuitBreaker.execute(
+        () -> CompletableFuture.failedFuture(new ConnectException("connection refused")));
+    tickerNanos.addAndGet(Duration.ofSeconds(60).toNanos());
+    CompletableFuture<String> trialCall = new CompletableFuture<>();
+    circuitBreaker.execute(() -> trialCall);
+    // when
+    lateCall.complete("late");
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+    // when
+    trialCall.complete("trial");
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("should keep circuit closed after burst of calls failing on caller deadline")
+  public void shouldKeepCircuitClosedAfterBurstOfCallsFailingOnCallerDeadline() {
+    // given
+    UpstreamCircuitBreaker circuitBreaker =
+        UpstreamCircuitBreaker.of(
+            Upstream.TRANSLATION,
+            2,
+            Duration.ofSeconds(60),
+            10,
+            tickerNanos::get,
+            new SimpleMeterRegistry());
+    // when
+    for (int i = 0; i < 5; i++) {
+      circuitBreaker.execute(
+          () ->
+              CompletableFuture.failedFuture(
+                  new DeadlineExceededException("Deadline exceeded before sending request")));
+      circuitBreaker.execute(() -> CompletableFuture.failedFuture(new CancellationException()));
+    }
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    // when
+    circuitBreaker.execute(
+        () -> CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")));
+    circuitBreaker.execute(
+        () -> CompletableFuture.failedFuture(new ConnectException("connection refused")));
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+  }
+
+  private CompletableFuture<String> fetchTranslatedText() {
+    return translationHttpClient.fetchTranslatedText(new TranslationKey(SHAKESPEARE_URL, TEXT));
+  }
+}
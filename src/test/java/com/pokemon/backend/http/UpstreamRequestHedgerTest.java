@@ -0,0 +1,135 @@
+package com.pokemon.backend.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.pokemon.backend.http.pokemon.PokemonHttpClient;
+import com.pokemon.backend.model.pokemon.PokemonSpecies;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.HttpClientConfig.POKEMON_REQUEST_HEDGER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    properties = {
+      "app.http.pokemon.hedge.enabled=true",
+      "app.http.pokemon.hedge.percentile=0.95",
+      "app.http.pokemon.hedge.min-delay=100"
+    })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class UpstreamRequestHedgerTest {
+  private static final String PIKACHU_URL = "/api/v2/pokemon-species/pikachu";
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private PokemonHttpClient pokemonHttpClient;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired
+  @Qualifier(POKEMON_REQUEST_HEDGER_NAME)
+  private UpstreamRequestHedger pokemonRequestHedger;
+
+  @Test
+  @DisplayName("should hedge slow pokemon server request and return the faster response")
+  public void shouldHedgeSlowPokemonServerRequestAndReturnTheFasterResponse() throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(get(urlEqualTo(PIKACHU_URL)).willReturn(aResponse().withBody(mockPokemonResponseBody)));
+    for (int i = 0; i < 20; i++) {
+      pokemonHttpClient.fetchPokemon("pikachu").get();
+    }
+    wireMockServer.resetAll();
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .inScenario("hedge")
+            .whenScenarioStateIs(Scenario.STARTED)
+            .willSetStateTo("hedged")
+            .willReturn(aResponse().withBody(mockPokemonResponseBody).withFixedDelay(1900)));
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .inScenario("hedge")
+            .whenScenarioStateIs("hedged")
+            .willReturn(aResponse().withBody(mockPokemonResponseBody)));
+    // when
+    long startTime = System.nanoTime();
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.fetchPokemon("pikachu").get();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+    // then
+    assertThat(pokemonSpecies.getName()).isEqualTo("pikachu");
+    assertThat(elapsed).isLessThan(Duration.ofMillis(1500));
+    verify(2, getRequestedFor(urlEqualTo(PIKACHU_URL)));
+    assertThat(
+            meterRegistry
+                .counter("upstream.hedges", "upstream", "pokemon", "result", "won")
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not hedge before enough latencies are recorded")
+  public void shouldNotHedgeBeforeEnoughLatenciesAreRecorded() throws Exception {
+    // given
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        get(urlEqualTo(PIKACHU_URL))
+            .willReturn(aResponse().withBody(mockPokemonResponseBody).withFixedDelay(300)));
+    // when
+    PokemonSpecies pokemonSpecies = pokemonHttpClient.fetchPokemon("pikachu").get();
+    // then
+    assertThat(pokemonSpecies.getName()).isEqualTo("pikachu");
+    assertThat(pokemonRequestHedger.getHedgeDelay()).isNull();
+    verify(1, getRequestedFor(urlEqualTo(PIKACHU_URL)));
+  }
+
+  @Test
+  @DisplayName("should cancel the losing attempt once the hedged request completes")
+  public void shouldCancelTheLosingAttemptOnceTheHedgedRequestCompletes() {
+    // given
+    UpstreamRequestHedger requestHedger =
+        new UpstreamRequestHedger(
+            Upstream.POKEMON, true, 0.95, Duration.ofMillis(50), new SimpleMeterRegistry());
+    for (int i = 0; i < 20; i++) {
+      requestHedger.execute(() -> CompletableFuture.completedFuture("pikachu")).join();
+    }
+    CompletableFuture<String> slowAttempt = new CompletableFuture<>();
+    Queue<CompletableFuture<String>> attempts =
+        new ArrayDeque<>(List.of(slowAttempt, CompletableFuture.completedFuture("pikachu")));
+    // when
+    String result = requestHedger.execute(attempts::poll).join();
+    // then
+    assertThat(result).isEqualTo("pikachu");
+    assertThat(requestHedger.getHedgeDelay()).isEqualTo(Duration.ofMillis(50));
+    assertThat(slowAttempt).isCancelled();
+  }
+}
@@ -1,26 +1,34 @@
 package com.pokemon.backend.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.pokemon.backend.model.pokemon.Pokemon;
+import com.pokemon.backend.model.pokemon.PokemonResponse;
+import com.pokemon.backend.model.pokemon.PokemonResult;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 public class PokemonServiceTest {
   @Autowired private PokemonService pokemonService;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private ObjectMapper objectMapper;
   static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
 
   @BeforeAll
@@ -38,9 +46,38 @@ public class PokemonServiceTest {
     wireMockServer.resetAll();
   }
 
+  @Test
+  @DisplayName("should reuse serialized response until pokemon cache entry is replaced")
+  public void shouldReuseSerializedResponseUntilPokemonCacheEntryIsReplaced() throws Exception {
+    // given
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    String mockPokemonResponseBody =
+        Files.readString(Path.of("src/test/resources/data/pikachu.json"));
+    stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
+            .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
+    assertThat(pokemonService.getCachedPokemonResponse("pikachu", false)).isNull();
+    pokemonService.getPokemon("pikachu", false).get();
+    // when
+    PokemonResponse firstPokemonResponse =
+        pokemonService.getCachedPokemonResponse("pikachu", false).getValue();
+    PokemonResponse secondPokemonResponse =
+        pokemonService.getCachedPokemonResponse("pikachu", false).getValue();
+    cacheManager.getCache(POKEMON_CACHE_NAME).clear();
+    pokemonService.getPokemon("pikachu", false).get();
+    PokemonResponse reloadedPokemonResponse =
+        pokemonService.getCachedPokemonResponse("pikachu", false).getValue();
+    // then
+    assertThat(secondPokemonResponse).isSameAs(firstPokemonResponse);
+    assertThat(reloadedPokemonResponse).isNotSameAs(firstPokemonResponse);
+    assertThat(reloadedPokemonResponse.getETag()).isEqualTo(firstPokemonResponse.getETag());
+    assertThat(objectMapper.readValue(firstPokemonResponse.getBody(), Pokemon.class).getName())
+        .isEqualTo("pikachu");
+  }
+
   @Test
   public void shouldReturnPokemonWithoutDescriptionTranslated()
-      throws URISyntaxException, IOException, ExecutionException, InterruptedException {
+      throws IOException, ExecutionException, InterruptedException {
     // given
     String pokemonName = "pikachu";
     String mockPokemonResponseBody =
@@ -50,7 +87,7 @@ public class PokemonServiceTest {
         get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, false);
+    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, false).get();
     assertThat(actualPokemon.getName()).isEqualTo("pikachu");
     assertThat(actualPokemon.getHabitat()).isEqualTo("forest");
     assertThat(actualPokemon.getIsLegendary()).isEqualTo(false);
@@ -80,7 +117,7 @@ public class PokemonServiceTest {
         WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, false);
+    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, false).get();
     assertThat(actualPokemon.getName()).isEqualTo("pikachu");
     assertThat(actualPokemon.getHabitat()).isEqualTo("forest");
     assertThat(actualPokemon.getIsLegendary()).isEqualTo(false);
@@ -111,7 +148,7 @@ public class PokemonServiceTest {
         WireMock.get(urlEqualTo("/api/v2/pokemon-species/pikachu"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true);
+    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true).get();
     assertThat(actualPokemon.getName()).isEqualTo("pikachu");
     assertThat(actualPokemon.getHabitat()).isEqualTo("forest");
     assertThat(actualPokemon.getIsLegendary()).isEqualTo(false);
@@ -130,17 +167,18 @@ public class PokemonServiceTest {
         get(urlEqualTo("/api/v2/pokemon-species/invalid_pokemon"))
             .willReturn(aResponse().withStatus(404).withBody("Not Found")));
     // then
-    ResponseStatusException thrown =
+    ExecutionException thrown =
         Assertions.assertThrows(
-            ResponseStatusException.class, () -> pokemonService.getPokemon(pokemonName, false));
-    assertThat(thrown.getStatus().value()).isEqualTo(404);
+            ExecutionException.class, () -> pokemonService.getPokemon(pokemonName, false).get());
+    assertThat(thrown.getCause()).isInstanceOf(ResponseStatusException.class);
+    assertThat(((ResponseStatusException) thrown.getCause()).getStatus().value()).isEqualTo(404);
   }
 
   @Test
   @DisplayName(
       "should return pokemon with description translated with yoda translation when habitat is cave")
   public void shouldReturnPokemonWithDescriptionTranslatedWithYodaTranslationWhenHabitatIsCave()
-      throws URISyntaxException, ExecutionException, InterruptedException, IOException {
+      throws ExecutionException, InterruptedException, IOException {
     // given
     String pokemonName = "diglett";
     String text =
@@ -159,7 +197,7 @@ public class PokemonServiceTest {
         get(urlEqualTo("/api/v2/pokemon-species/diglett"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true);
+    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true).get();
     assertThat(actualPokemon.getName()).isEqualTo("diglett");
     assertThat(actualPokemon.getHabitat()).isEqualTo("cave");
     assertThat(actualPokemon.getIsLegendary()).isEqualTo(false);
@@ -173,7 +211,7 @@ public class PokemonServiceTest {
       "should return pokemon with description translated with yoda translation when pokemon is legendary")
   public void
       shouldReturnPokemonWithDescriptionTranslatedWithYodaTranslationWhenPokemonIsLegendary()
-          throws URISyntaxException, ExecutionException, InterruptedException, IOException {
+          throws ExecutionException, InterruptedException, IOException {
     // given
     String pokemonName = "mewtwo";
     String text =
@@ -192,7 +230,7 @@ public class PokemonServiceTest {
         get(urlEqualTo("/api/v2/pokemon-species/mewtwo"))
             .willReturn(aResponse().withStatus(200).withBody(mockPokemonResponseBody)));
     // then
-    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true);
+    Pokemon actualPokemon = pokemonService.getPokemon(pokemonName, true).get();
     assertThat(actualPokemon.getName()).isEqualTo("mewtwo");
     assertThat(actualPokemon.getHabitat()).isEqualTo("rare");
     assertThat(actualPokemon.getIsLegendary()).isEqualTo(true);
@@ -200,4 +238,34 @@ public class PokemonServiceTest {
         .isEqualTo(
             "Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.");
   }
+
+  @Test
+  @DisplayName("should cap number of pokemons resolved concurrently in batch")
+  public void shouldCapNumberOfPokemonsResolvedConcurrentlyInBatch()
+      throws ExecutionException, InterruptedException {
+    // given
+    List<String> pokemonNames = List.of("bulbasaur", "ivysaur", "venusaur", "charmander");
+    // when
+    for (String pokemonName : pokemonNames) {
+      stubFor(
+          get(urlEqualTo("/api/v2/pokemon-species/" + pokemonName))
+              .willReturn(
+                  aResponse()
+                      .withStatus(200)
+                      .withFixedDelay(400)
+                      .withBody("{\"name\": \"" + pokemonName + "\"}")));
+    }
+    long startTime = System.nanoTime();
+    List<PokemonResult> actualPokemonResults =
+        pokemonService.getPokemons(pokemonNames, false).get();
+    Duration actualElapsedTime = Duration.ofNanos(System.nanoTime() - startTime);
+    // then
+    assertThat(actualPokemonResults)
+        .extracting(PokemonResult::getName)
+        .containsExactlyElementsOf(pokemonNames);
+    assertThat(actualPokemonResults).allMatch(pokemonResult -> pokemonResult.getStatus() == 200);
+    assertThat(actualElapsedTime)
+        .isGreaterThanOrEqualTo(Duration.ofMillis(800))
+        .isLessThan(Duration.ofMillis(1600));
+  }
 }
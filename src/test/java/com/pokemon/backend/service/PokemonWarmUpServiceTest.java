@@ -0,0 +1,123 @@
+package com.pokemon.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.pokemon.backend.config.CacheConfig.POKEMON_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    properties = {
+      "app.pokemon.warm-up.names=pikachu",
+      "app.pokemon.warm-up.ids=50-50",
+      "app.pokemon.warm-up.access-log-path=src/test/resources/data/access_log.txt",
+      "app.pokemon.warm-up.access-log-top=1",
+      "app.pokemon.warm-up.parallelism=1",
+      "app.pokemon.warm-up.translated=true",
+      "app.pokemon.warm-up.timeout=1"
+    })
+public class PokemonWarmUpServiceTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() throws IOException {
+    wireMockServer.start();
+    stubPokemon("pikachu", "pikachu");
+    stubPokemon("50", "diglett");
+    stubPokemon("mewtwo", "mewtwo");
+    wireMockServer.stubFor(
+        post(urlEqualTo("/translate/shakespeare"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of(
+                                "src/test/resources/data/pikachu_shakespeare_translated_description.json")))));
+    wireMockServer.stubFor(
+        post(urlEqualTo("/translate/yoda"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of(
+                                "src/test/resources/data/mewtwo_yoda_translated_description.json")))));
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @Autowired private PokemonWarmUpService pokemonWarmUpService;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  @DisplayName(
+      "should preload configured, id range and most requested pokemons with translations at startup")
+  public void shouldPreloadConfiguredIdRangeAndMostRequestedPokemonsWithTranslationsAtStartup() {
+    // given
+    // when
+    List<String> actualPokemonNamesOrIds = pokemonWarmUpService.getWarmUpPokemonNamesOrIds();
+    // then
+    assertThat(actualPokemonNamesOrIds).containsExactly("pikachu", "50", "mewtwo");
+    assertThat(cacheManager.getCache(POKEMON_CACHE_NAME).get("pikachu")).isNotNull();
+    assertThat(cacheManager.getCache(POKEMON_CACHE_NAME).get("diglett")).isNotNull();
+    assertThat(cacheManager.getCache(POKEMON_CACHE_NAME).get("mewtwo")).isNotNull();
+    wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/ditto")));
+    wireMockServer.verify(1, postRequestedFor(urlEqualTo("/translate/shakespeare")));
+    wireMockServer.verify(2, postRequestedFor(urlEqualTo("/translate/yoda")));
+    assertThat(
+            meterRegistry
+                .get("pokemon.warm.up.pokemons")
+                .tag("result", "success")
+                .counter()
+                .count())
+        .isEqualTo(3.0);
+    assertThat(meterRegistry.get("pokemon.warm.up").tag("outcome", "completed").timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should stop warming up once time budget has run out")
+  public void shouldStopWarmingUpOnceTimeBudgetHasRunOut() throws Exception {
+    // given
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/slowpoke"))
+            .willReturn(aResponse().withStatus(404).withFixedDelay(1500)));
+    long startTime = System.nanoTime();
+    // when
+    pokemonWarmUpService.warmUp(List.of("slowpoke", "ditto"));
+    // then
+    assertThat(Duration.ofNanos(System.nanoTime() - startTime)).isLessThan(Duration.ofMillis(1500));
+    Thread.sleep(1000);
+    wireMockServer.verify(0, getRequestedFor(urlEqualTo("/api/v2/pokemon-species/ditto")));
+    assertThat(meterRegistry.get("pokemon.warm.up").tag("outcome", "timed_out").timer().count())
+        .isEqualTo(1);
+  }
+
+  private static void stubPokemon(String nameOrId, String pokemonName) throws IOException {
+    wireMockServer.stubFor(
+        get(urlEqualTo("/api/v2/pokemon-species/" + nameOrId))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody(
+                        Files.readString(
+                            Path.of("src/test/resources/data/" + pokemonName + ".json")))));
+  }
+}
@@ -0,0 +1,72 @@
+package com.pokemon.backend.service;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.caches.translation.sentences=true")
+@DirtiesContext
+public class TranslationSentenceMemoryTest {
+  static WireMockServer wireMockServer = new WireMockServer(options().port(8080));
+
+  @BeforeAll
+  public static void beforeAll() {
+    wireMockServer.start();
+  }
+
+  @AfterAll
+  public static void afterAll() {
+    wireMockServer.stop();
+  }
+
+  @AfterEach
+  public void afterEach() {
+    wireMockServer.resetAll();
+  }
+
+  @Autowired private TranslationService translationService;
+
+  @Test
+  @DisplayName("should only send sentences not translated yet to translation server")
+  public void shouldOnlySendSentencesNotTranslatedYetToTranslationServer() {
+    // given
+    stubTranslation("It lives in forests.", "'t liveth in forests.");
+    stubTranslation("It is rarely seen.", "'t is rarely seen.");
+    stubTranslation("It sleeps in trees.", "'t sleepeth in trees.");
+    // when
+    String firstTranslatedDescription =
+        translationService
+            .getTranslatedPokemonDescription(
+                "It lives in forests. It is rarely seen.", "forest", false)
+            .join();
+    String secondTranslatedDescription =
+        translationService
+            .getTranslatedPokemonDescription(
+                "It sleeps in trees.\nIt is rarely seen.", "forest", false)
+            .join();
+    // then
+    assertThat(firstTranslatedDescription).isEqualTo("'t liveth in forests. 't is rarely seen.");
+    assertThat(secondTranslatedDescription).isEqualTo("'t sleepeth in trees. 't is rarely seen.");
+    verify(3, postRequestedFor(urlEqualTo("/translate/shakespeare")));
+    verify(
+        1,
+        postRequestedFor(urlEqualTo("/translate/shakespeare"))
+            .withRequestBody(equalTo("text=It is rarely seen.")));
+  }
+
+  private static void stubTranslation(String text, String translatedText) {
+    stubFor(
+        post(urlEqualTo("/translate/shakespeare"))
+            .withRequestBody(equalTo("text=" + text))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withBody("{\"contents\":{\"translated\":\"" + translatedText + "\"}}")));
+  }
+}
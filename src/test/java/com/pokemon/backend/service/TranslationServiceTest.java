@@ -1,6 +1,7 @@
 package com.pokemon.backend.service;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
+import com.pokemon.backend.http.Deadline;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -8,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
@@ -49,12 +51,29 @@ public class TranslationServiceTest {
             .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
     // then
     String actualTranslationResponse =
-        translationService.getTranslatedPokemonDescription(text, "forest", false);
+        translationService.getTranslatedPokemonDescription(text, "forest", false).join();
     assertThat(actualTranslationResponse)
         .isEqualTo(
             "At which hour several of these pokemon gather,  their electricity couldst buildeth and cause lightning storms.");
   }
 
+  @Test
+  @DisplayName("should return text untranslated when request budget is nearly spent")
+  public void shouldReturnTextUntranslatedWhenRequestBudgetIsNearlySpent() {
+    // given
+    String text = "It stores electricity in the electric sacs on its cheeks.";
+    Deadline deadline = Deadline.after(Duration.ofMillis(100));
+    // when
+    String actualTranslationResponse =
+        translationService.getTranslatedPokemonDescription(text, "forest", false, deadline).join();
+    // then
+    assertThat(actualTranslationResponse).isEqualTo(text);
+    verify(
+        0,
+        postRequestedFor(urlEqualTo("/translate/shakespeare"))
+            .withRequestBody(equalTo("text=" + text)));
+  }
+
   @Test
   @DisplayName("should return translated text with yoda translation when habitat is cave")
   public void shouldReturnTranslatedTextWithYodaTranslationWhenHabitatIsCave() throws IOException {
@@ -71,7 +90,7 @@ public class TranslationServiceTest {
             .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
     // then
     String actualTranslationResponse =
-        translationService.getTranslatedPokemonDescription(text, "cave", false);
+        translationService.getTranslatedPokemonDescription(text, "cave", false).join();
     assertThat(actualTranslationResponse)
         .isEqualTo(
             "On plant roots,  lives about one yard underground where it feeds.Above ground,  it sometimes appears.");
@@ -94,7 +113,7 @@ public class TranslationServiceTest {
             .willReturn(aResponse().withStatus(200).withBody(mockTranslationResponseBody)));
     // then
     String actualTranslationResponse =
-        translationService.getTranslatedPokemonDescription(text, "rare", true);
+        translationService.getTranslatedPokemonDescription(text, "rare", true).join();
     assertThat(actualTranslationResponse)
         .isEqualTo(
             "Created by a scientist after years of horrific gene splicing and dna engineering experiments,  it was.");
@@ -113,7 +132,7 @@ public class TranslationServiceTest {
             .willReturn(aResponse().withStatus(429)));
     // then
     String actualTranslationResponse =
-        translationService.getTranslatedPokemonDescription(text, "rare", true);
+        translationService.getTranslatedPokemonDescription(text, "rare", true).join();
     assertThat(actualTranslationResponse)
         .isEqualTo(
             "A legendary bird POKeMON that is said to appear from clouds while dropping enormous lightning bolts.");
@@ -132,7 +151,7 @@ public class TranslationServiceTest {
             .willReturn(aResponse().withStatus(200).withBody("invalid_response_body")));
     // then
     String actualTranslationResponse =
-        translationService.getTranslatedPokemonDescription(text, "rare", true);
+        translationService.getTranslatedPokemonDescription(text, "rare", true).join();
     assertThat(actualTranslationResponse)
         .isEqualTo(
             "Generations of kings were attended by these Pokémon, which used their spectral power to manipulate and control people and Pokémon.");